@@ -0,0 +1,110 @@
+package io.heygw44.strive.benchmark;
+
+import io.heygw44.strive.domain.meetup.entity.Category;
+import io.heygw44.strive.domain.meetup.entity.Meetup;
+import io.heygw44.strive.domain.meetup.entity.MeetupStatus;
+import io.heygw44.strive.domain.meetup.entity.Region;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 고정 데이터 (DB 없이 도메인/조립 로직만 측정)
+ */
+final class BenchmarkFixtures {
+
+    static final int CATEGORY_COUNT = 12;
+    static final int REGION_COUNT = 25;
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Category> categories() {
+        List<Category> categories = new ArrayList<>(CATEGORY_COUNT);
+        for (long id = 1; id <= CATEGORY_COUNT; id++) {
+            Category category = Category.create("카테고리-" + id);
+            setField(category, "id", id);
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    static List<Region> regions() {
+        List<Region> regions = new ArrayList<>(REGION_COUNT);
+        for (int i = 1; i <= REGION_COUNT; i++) {
+            regions.add(Region.createDistrict("SEOUL_" + i, "서울 " + i + "구", "SEOUL"));
+        }
+        return regions;
+    }
+
+    /**
+     * 실제 목록 페이지처럼 일부 카테고리/지역에 몰린 모임 목록
+     */
+    static List<Meetup> meetups(int size) {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        List<Meetup> meetups = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long categoryId = (i % 3 == 0) ? 1 : (i % CATEGORY_COUNT) + 1;
+            String regionCode = "SEOUL_" + ((i % 4 == 0) ? 1 : (i % REGION_COUNT) + 1);
+            Meetup meetup = Meetup.create(
+                    (long) (i % 500) + 1, "모임 " + i, "설명 " + i, categoryId, regionCode,
+                    "장소 " + i, base.plusDays(7 + i), base.plusDays(7 + i).plusHours(2), base.plusDays(6 + i),
+                    10 + (i % 20), null
+            );
+            setField(meetup, "id", (long) i + 1);
+            meetup.transitionTo(MeetupStatus.OPEN);
+            meetups.add(meetup);
+        }
+        return meetups;
+    }
+
+    /**
+     * 리포지토리 인터페이스의 findAllById만 응답하는 스텁
+     */
+    @SuppressWarnings("unchecked")
+    static <R, T, ID> R findAllByIdStub(Class<R> repositoryType, List<T> rows, Function<T, ID> idGetter) {
+        Map<ID, T> byId = new HashMap<>();
+        rows.forEach(row -> byId.put(idGetter.apply(row), row));
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("findAllById")) {
+                Collection<ID> ids = (Collection<ID>) args[0];
+                List<T> found = new ArrayList<>(ids.size());
+                for (ID id : ids) {
+                    T row = byId.get(id);
+                    if (row != null) {
+                        found.add(row);
+                    }
+                }
+                return found;
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> repositoryType.getSimpleName() + "Stub";
+                };
+            }
+            throw new UnsupportedOperationException(method.getName());
+        };
+        return (R) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType}, handler);
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
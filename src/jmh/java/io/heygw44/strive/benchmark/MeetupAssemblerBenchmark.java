@@ -0,0 +1,46 @@
+package io.heygw44.strive.benchmark;
+
+import io.heygw44.strive.domain.meetup.dto.MeetupListResponse;
+import io.heygw44.strive.domain.meetup.entity.Category;
+import io.heygw44.strive.domain.meetup.entity.Meetup;
+import io.heygw44.strive.domain.meetup.entity.Region;
+import io.heygw44.strive.domain.meetup.repository.CategoryRepository;
+import io.heygw44.strive.domain.meetup.repository.RegionRepository;
+import io.heygw44.strive.domain.meetup.service.MeetupResponseAssembler;
+import io.heygw44.strive.global.loader.ReferenceNameLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 조립 비용 (리포지토리는 메모리 스텁 - DB 왕복 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MeetupAssemblerBenchmark {
+
+    @Param({"20", "50", "100"})
+    int pageSize;
+
+    private MeetupResponseAssembler assembler;
+    private List<Meetup> page;
+
+    @Setup
+    public void setUp() {
+        CategoryRepository categoryRepository = BenchmarkFixtures.findAllByIdStub(
+                CategoryRepository.class, BenchmarkFixtures.categories(), Category::getId);
+        RegionRepository regionRepository = BenchmarkFixtures.findAllByIdStub(
+                RegionRepository.class, BenchmarkFixtures.regions(), Region::getCode);
+
+        assembler = new MeetupResponseAssembler(
+                new ReferenceNameLoader(null, categoryRepository, regionRepository), null);
+        page = BenchmarkFixtures.meetups(pageSize);
+    }
+
+    @Benchmark
+    public List<MeetupListResponse> toMeetupListResponses() {
+        return assembler.toMeetupListResponses(page);
+    }
+}
@@ -0,0 +1,115 @@
+package io.heygw44.strive.benchmark;
+
+import io.heygw44.strive.StriveApplication;
+import io.heygw44.strive.domain.meetup.dto.MeetupListResponse;
+import io.heygw44.strive.domain.meetup.entity.Category;
+import io.heygw44.strive.domain.meetup.entity.Meetup;
+import io.heygw44.strive.domain.meetup.entity.MeetupStatus;
+import io.heygw44.strive.domain.meetup.repository.CategoryRepository;
+import io.heygw44.strive.domain.meetup.repository.MeetupRepository;
+import io.heygw44.strive.domain.meetup.repository.RegionRepository;
+import io.heygw44.strive.domain.meetup.service.MeetupResponseAssembler;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.jpa.HibernateHints;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 경로의 요청당 할당량 (H2 인메모리 DB + 실제 JPA/조립 경로)
+ * readOnly=false는 읽기 전용 힌트 적용 전(변경 감지용 스냅샷 보관 + 커밋 시 dirty check)을 재현한다.
+ * 쓰기 트랜잭션 안에서 실행해 Spring의 readOnly 트랜잭션 최적화와 무관하게 힌트 효과만 비교한다.
+ * 할당량 비교: ./gradlew jmh -PjmhIncludes=MeetupListQuery -PjmhProfilers=gc (gc.alloc.rate.norm, B/op)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MeetupListQueryBenchmark {
+
+    private static final int MEETUP_COUNT = 1_000;
+    private static final String LIST_QUERY = """
+            SELECT m FROM Meetup m
+            WHERE m.deletedAt IS NULL
+            AND m.status = :status
+            ORDER BY m.startAt
+            """;
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    @Param({"true", "false"})
+    boolean readOnly;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private MeetupResponseAssembler assembler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(StriveApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles("local");
+        application.setDefaultProperties(Map.of(
+                "logging.level.root", "WARN",
+                "spring.jpa.properties.hibernate.format_sql", "false"));
+        context = application.run();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        assembler = context.getBean(MeetupResponseAssembler.class);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MeetupListResponse> listPage() {
+        return transactionTemplate.execute(status -> {
+            List<Meetup> meetups = entityManager.createQuery(LIST_QUERY, Meetup.class)
+                    .setParameter("status", MeetupStatus.OPEN)
+                    .setHint(HibernateHints.HINT_READ_ONLY, readOnly)
+                    .setHint(HibernateHints.HINT_FLUSH_MODE, readOnly ? "MANUAL" : "AUTO")
+                    .setMaxResults(pageSize)
+                    .getResultList();
+            return assembler.toMeetupListResponses(meetups);
+        });
+    }
+
+    private void seed() {
+        List<Category> categories = context.getBean(CategoryRepository.class).saveAll(
+                BenchmarkFixtures.categories().stream()
+                        .map(category -> Category.create(category.getName()))
+                        .toList());
+        context.getBean(RegionRepository.class).saveAll(BenchmarkFixtures.regions());
+
+        LocalDateTime base = LocalDateTime.now().plusDays(7);
+        List<Meetup> meetups = new ArrayList<>(MEETUP_COUNT);
+        for (int i = 0; i < MEETUP_COUNT; i++) {
+            Meetup meetup = Meetup.create(
+                    (long) (i % 500) + 1, "모임 " + i, "설명 " + i,
+                    categories.get(i % categories.size()).getId(),
+                    "SEOUL_" + ((i % BenchmarkFixtures.REGION_COUNT) + 1),
+                    "장소 " + i, base.plusHours(i), base.plusHours(i + 2), base.minusDays(1),
+                    10 + (i % 20), null);
+            meetup.transitionTo(MeetupStatus.OPEN);
+            meetups.add(meetup);
+        }
+        context.getBean(MeetupRepository.class).saveAll(meetups);
+    }
+}
@@ -0,0 +1,72 @@
+package io.heygw44.strive.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.heygw44.strive.domain.meetup.dto.MeetupListResponse;
+import io.heygw44.strive.domain.meetup.entity.Meetup;
+import io.heygw44.strive.global.exception.ErrorCode;
+import io.heygw44.strive.global.response.ApiResponse;
+import io.heygw44.strive.global.response.ErrorResponse;
+import io.heygw44.strive.global.response.PageResponse;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 객체 생성 및 Jackson 직렬화 (애플리케이션과 같은 날짜 설정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "50", "100"})
+    int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<MeetupListResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        List<Meetup> meetups = BenchmarkFixtures.meetups(pageSize);
+        List<MeetupListResponse> items = meetups.stream()
+                .map(meetup -> MeetupListResponse.from(meetup, "카테고리", "지역"))
+                .toList();
+        page = new PageResponse<>(items, 1_000, 0, pageSize, true);
+
+        MDC.put("traceId", "benchmark-trace-id");
+    }
+
+    @TearDown
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    @Benchmark
+    public ApiResponse<PageResponse<MeetupListResponse>> createApiResponse() {
+        return ApiResponse.success(page);
+    }
+
+    @Benchmark
+    public ErrorResponse createErrorResponse() {
+        return ErrorResponse.from(ErrorCode.PARTICIPATION_CAPACITY_EXCEEDED);
+    }
+
+    @Benchmark
+    public byte[] serializeMeetupPage() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(page));
+    }
+
+    @Benchmark
+    public byte[] serializeErrorResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(ErrorResponse.from(ErrorCode.PARTICIPATION_CAPACITY_EXCEEDED));
+    }
+}
@@ -0,0 +1,38 @@
+package io.heygw44.strive.benchmark;
+
+import io.heygw44.strive.domain.meetup.entity.MeetupStatus;
+import io.heygw44.strive.domain.participation.entity.ParticipationStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상태 전이 검증 (모든 상태 쌍)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatusTransitionBenchmark {
+
+    private static final MeetupStatus[] MEETUP_STATUSES = MeetupStatus.values();
+    private static final ParticipationStatus[] PARTICIPATION_STATUSES = ParticipationStatus.values();
+
+    @Benchmark
+    public void meetupTransitions(Blackhole blackhole) {
+        for (MeetupStatus from : MEETUP_STATUSES) {
+            for (MeetupStatus to : MEETUP_STATUSES) {
+                blackhole.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+
+    @Benchmark
+    public void participationTransitions(Blackhole blackhole) {
+        for (ParticipationStatus from : PARTICIPATION_STATUSES) {
+            for (ParticipationStatus to : PARTICIPATION_STATUSES) {
+                blackhole.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+}
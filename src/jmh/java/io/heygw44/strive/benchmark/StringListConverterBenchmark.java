@@ -0,0 +1,49 @@
+package io.heygw44.strive.benchmark;
+
+import io.heygw44.strive.domain.user.entity.StringListConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 선호 카테고리 JSON 컬럼 변환 비용 (사용자 로딩/저장마다 발생)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringListConverterBenchmark {
+
+    @Param({"0", "3", "10"})
+    int size;
+
+    private StringListConverter converter;
+    private List<String> values;
+    private String column;
+
+    @Setup
+    public void setUp() {
+        converter = new StringListConverter();
+        values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add("CATEGORY_" + i);
+        }
+        column = converter.convertToDatabaseColumn(values);
+    }
+
+    @Benchmark
+    public String toDatabaseColumn() {
+        return converter.convertToDatabaseColumn(values);
+    }
+
+    @Benchmark
+    public List<String> toEntityAttribute() {
+        return converter.convertToEntityAttribute(column);
+    }
+
+    @Benchmark
+    public List<String> roundTrip() {
+        return converter.convertToEntityAttribute(converter.convertToDatabaseColumn(values));
+    }
+}
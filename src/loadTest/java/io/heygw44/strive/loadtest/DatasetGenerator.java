@@ -0,0 +1,285 @@
+package io.heygw44.strive.loadtest;
+
+import io.heygw44.strive.global.entity.TsidFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 규모 테스트용 합성 데이터 생성기 (JDBC 배치 INSERT)
+ * 사용자, 카테고리, 지역 계층(시 → 구), 모임, 참여 신청을 현실적인 쏠림과 함께 적재한다.
+ * - 지역/카테고리: 앞 순위일수록 모임이 많이 몰리는 Zipf 분포
+ * - 주최자: 소수 사용자가 많은 모임을 개설
+ * - 참여 신청: 인기 순위가 높은 모임에 집중되며 인기 순위는 모임 ID와 무관하게 섞인다
+ * 대상 테이블은 비어 있어야 하며, ID는 애플리케이션과 같은 TSID 형식으로 생성기 전용 노드에서 미리 만들어 넣는다.
+ * MySQL에서는 JDBC URL에 rewriteBatchedStatements=true 를 지정해야 배치가 다중 행 INSERT로 전송된다.
+ */
+final class DatasetGenerator {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final int MAX_CAPACITY = 50;
+    private static final double APPROVED_RATIO = 0.6;
+    /** 생성기 전용 TSID 노드 (애플리케이션 노드와 겹치지 않도록 최댓값 사용) */
+    private static final int DATAGEN_NODE = 1023;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TsidFactory idFactory = TsidFactory.forNode(DATAGEN_NODE);
+
+    DatasetGenerator(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    static String email(int index) {
+        return "datagen-user-" + index + "@example.com";
+    }
+
+    /**
+     * 하위 지역 코드 (index가 작을수록 모임이 많이 몰리는 지역)
+     */
+    static String districtCode(DatasetSettings settings, int index) {
+        return cityCode(index / settings.districtsPerCity()) + "_D" + (index % settings.districtsPerCity());
+    }
+
+    private static String cityCode(int city) {
+        return "GEN_C" + city;
+    }
+
+    Dataset generate(DatasetSettings settings) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM meetup", Integer.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("대상 테이블이 비어 있어야 합니다 (meetup " + existing + "건)");
+        }
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        long started = System.nanoTime();
+        long[] userIds = insertUsers(settings, random.split(), now);
+        long[] categoryIds = insertCategories(settings);
+        insertRegions(settings);
+        long[] meetupIds = insertMeetups(settings, random.split(), now, userIds, categoryIds);
+        Map<Long, Long> organizerByMeetup = new HashMap<>();
+        Map<Long, Integer> capacityByMeetup = new HashMap<>();
+        jdbcTemplate.query("SELECT id, organizer_id, capacity FROM meetup", rs -> {
+            organizerByMeetup.put(rs.getLong(1), rs.getLong(2));
+            capacityByMeetup.put(rs.getLong(1), rs.getInt(3));
+        });
+        long participations = insertParticipations(settings, random.split(), now, userIds, meetupIds,
+                organizerByMeetup, capacityByMeetup);
+        System.out.printf("데이터 생성 완료: 사용자 %d, 모임 %d, 참여 %d (%d ms)%n",
+                userIds.length, meetupIds.length, participations, (System.nanoTime() - started) / 1_000_000);
+        return new Dataset(userIds, popularityOrder(settings, meetupIds), organizerByMeetup);
+    }
+
+    private long[] insertUsers(DatasetSettings settings, SplittableRandom random, LocalDateTime now) {
+        String passwordHash = passwordEncoder.encode(settings.password());
+        int districts = settings.cities() * settings.districtsPerCity();
+        ZipfSampler regionSampler = new ZipfSampler(districts, settings.skew());
+        long[] userIds = newIds(settings.users());
+        batchInsert("""
+                INSERT INTO users (id, email, password_hash, nickname, home_region_code, is_verified, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, settings.users(), settings.batchSize(), (ps, i) -> {
+            ps.setLong(1, userIds[i]);
+            ps.setString(2, email(i));
+            ps.setString(3, passwordHash);
+            ps.setString(4, "gen-user-" + i);
+            ps.setString(5, districtCode(settings, regionSampler.sample(random)));
+            ps.setBoolean(6, true);
+            ps.setTimestamp(7, Timestamp.valueOf(now.minusMinutes(random.nextInt(525_600))));
+        });
+        return userIds;
+    }
+
+    private long[] insertCategories(DatasetSettings settings) {
+        long[] categoryIds = newIds(settings.categories());
+        batchInsert("INSERT INTO category (id, name) VALUES (?, ?)", settings.categories(), settings.batchSize(),
+                (ps, i) -> {
+                    ps.setLong(1, categoryIds[i]);
+                    ps.setString(2, "gen-category-" + i);
+                });
+        return categoryIds;
+    }
+
+    private void insertRegions(DatasetSettings settings) {
+        String sql = "INSERT INTO region (code, name, parent_code) VALUES (?, ?, ?)";
+        batchInsert(sql, settings.cities(), settings.batchSize(), (ps, i) -> {
+            ps.setString(1, cityCode(i));
+            ps.setString(2, "생성 " + i + "시");
+            ps.setString(3, null);
+        });
+        batchInsert(sql, settings.cities() * settings.districtsPerCity(), settings.batchSize(), (ps, i) -> {
+            ps.setString(1, districtCode(settings, i));
+            ps.setString(2, "생성 " + i + "구");
+            ps.setString(3, cityCode(i / settings.districtsPerCity()));
+        });
+    }
+
+    private long[] insertMeetups(DatasetSettings settings, SplittableRandom random, LocalDateTime now,
+                                 long[] userIds, long[] categoryIds) {
+        ZipfSampler organizerSampler = new ZipfSampler(Math.min(settings.organizers(), userIds.length), settings.skew());
+        ZipfSampler regionSampler = new ZipfSampler(settings.cities() * settings.districtsPerCity(), settings.skew());
+        ZipfSampler categorySampler = new ZipfSampler(categoryIds.length, settings.skew());
+        long[] meetupIds = newIds(settings.meetups());
+        batchInsert("""
+                INSERT INTO meetup (id, organizer_id, title, description, category_id, region_code, location_text,
+                                    start_at, end_at, recruit_end_at, capacity, status, version, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, settings.meetups(), settings.batchSize(), (ps, i) -> {
+            // 70% 모집중(미래), 20% 완료(과거), 나머지는 마감/취소
+            int bucket = random.nextInt(100);
+            String status = bucket < 70 ? "OPEN" : bucket < 90 ? "COMPLETED" : bucket < 95 ? "CLOSED" : "CANCELLED";
+            LocalDateTime startAt = "COMPLETED".equals(status)
+                    ? now.minusHours(1 + random.nextInt(24 * 180))
+                    : now.plusHours(25 + random.nextInt(24 * 60));
+            ps.setLong(1, meetupIds[i]);
+            ps.setLong(2, userIds[organizerSampler.sample(random)]);
+            ps.setString(3, "gen-meetup-" + i);
+            ps.setString(4, "생성된 모임 " + i);
+            ps.setLong(5, categoryIds[categorySampler.sample(random)]);
+            ps.setString(6, districtCode(settings, regionSampler.sample(random)));
+            ps.setString(7, "장소 " + i);
+            ps.setTimestamp(8, Timestamp.valueOf(startAt));
+            ps.setTimestamp(9, Timestamp.valueOf(startAt.plusHours(2)));
+            ps.setTimestamp(10, Timestamp.valueOf(startAt.minusDays(1)));
+            ps.setInt(11, MIN_CAPACITY + random.nextInt(MAX_CAPACITY - MIN_CAPACITY + 1));
+            ps.setString(12, status);
+            ps.setInt(13, 0);
+            ps.setTimestamp(14, Timestamp.valueOf(startAt.minusDays(7 + random.nextInt(30))));
+        });
+        return meetupIds;
+    }
+
+    /**
+     * 모임별 신청 수는 인기 순위의 Zipf 가중치에 비례하며 평균이 participationsPerMeetup이 되도록 정규화한다.
+     */
+    private long insertParticipations(DatasetSettings settings, SplittableRandom random, LocalDateTime now,
+                                      long[] userIds, long[] meetupIds,
+                                      Map<Long, Long> organizerByMeetup, Map<Long, Integer> capacityByMeetup) {
+        int[] rankByMeetup = popularityRanks(settings, meetupIds.length);
+        double weightSum = 0;
+        for (int rank = 0; rank < meetupIds.length; rank++) {
+            weightSum += ZipfSampler.weight(rank, settings.skew());
+        }
+        double scale = settings.participationsPerMeetup() * meetupIds.length / weightSum;
+
+        String sql = "INSERT INTO participation (id, meetup_id, user_id, status, version, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
+        List<Object[]> buffer = new ArrayList<>(settings.batchSize());
+        long total = 0;
+        int maxPerMeetup = userIds.length / 2;
+        for (int m = 0; m < meetupIds.length; m++) {
+            long meetupId = meetupIds[m];
+            int count = (int) Math.min(maxPerMeetup,
+                    Math.round(scale * ZipfSampler.weight(rankByMeetup[m], settings.skew())));
+            int approvedLimit = (int) (capacityByMeetup.get(meetupId) * APPROVED_RATIO);
+            Set<Long> participants = new HashSet<>();
+            participants.add(organizerByMeetup.get(meetupId));
+            for (int p = 0; p < count; p++) {
+                long userId;
+                do {
+                    userId = userIds[random.nextInt(userIds.length)];
+                } while (!participants.add(userId));
+                buffer.add(new Object[]{idFactory.nextId(), meetupId, userId, participationStatus(random, p < approvedLimit), 0,
+                        Timestamp.valueOf(now.minusMinutes(random.nextInt(43_200)))});
+                if (buffer.size() == settings.batchSize()) {
+                    jdbcTemplate.batchUpdate(sql, buffer);
+                    total += buffer.size();
+                    buffer.clear();
+                }
+            }
+        }
+        if (!buffer.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, buffer);
+            total += buffer.size();
+        }
+        return total;
+    }
+
+    private static String participationStatus(SplittableRandom random, boolean withinApprovedLimit) {
+        if (withinApprovedLimit) {
+            return "APPROVED";
+        }
+        int bucket = random.nextInt(100);
+        return bucket < 70 ? "REQUESTED" : bucket < 85 ? "REJECTED" : "CANCELLED";
+    }
+
+    /**
+     * 모임 인덱스 → 인기 순위 (시드 기반 셔플이라 ID 순서와 무관)
+     */
+    private static int[] popularityRanks(DatasetSettings settings, int size) {
+        int[] ranks = new int[size];
+        for (int i = 0; i < size; i++) {
+            ranks[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(settings.seed() ^ 0x5DEECE66DL);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = ranks[i];
+            ranks[i] = ranks[j];
+            ranks[j] = tmp;
+        }
+        return ranks;
+    }
+
+    private static long[] popularityOrder(DatasetSettings settings, long[] meetupIds) {
+        int[] ranks = popularityRanks(settings, meetupIds.length);
+        long[] ordered = new long[meetupIds.length];
+        for (int i = 0; i < meetupIds.length; i++) {
+            ordered[ranks[i]] = meetupIds[i];
+        }
+        return ordered;
+    }
+
+    private void batchInsert(String sql, int rows, int batchSize, RowBinder binder) {
+        for (int from = 0; from < rows; from += batchSize) {
+            int offset = from;
+            int size = Math.min(batchSize, rows - from);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    binder.bind(ps, offset + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    private long[] newIds(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = idFactory.nextId();
+        }
+        return ids;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int index) throws SQLException;
+    }
+
+    /**
+     * @param userIds                사용자 ID (index i = email(i) 사용자)
+     * @param meetupIdsByPopularity  모임 ID (인기 순위 오름차순 - 앞쪽이 참여가 몰리는 모임)
+     * @param organizerByMeetup      모임 ID → 주최자 ID
+     */
+    record Dataset(long[] userIds, long[] meetupIdsByPopularity, Map<Long, Long> organizerByMeetup) {
+    }
+}
@@ -0,0 +1,31 @@
+package io.heygw44.strive.loadtest;
+
+import io.heygw44.strive.StriveApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 합성 데이터셋 적재 진입점 (./gradlew generateDataset)
+ * 웹 서버 없이 애플리케이션 컨텍스트만 띄워 대상 DB(-Pdatagen.profile, 기본 local)에 데이터를 적재한다.
+ * 스키마는 미리 존재해야 하며 대상 테이블은 비어 있어야 한다.
+ */
+public final class DatasetGeneratorMain {
+
+    private DatasetGeneratorMain() {
+    }
+
+    public static void main(String[] args) {
+        DatasetSettings settings = DatasetSettings.fromSystemProperties();
+
+        SpringApplication application = new SpringApplication(StriveApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles(System.getProperty("datagen.profile", "local"));
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            new DatasetGenerator(context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class))
+                    .generate(settings);
+        }
+    }
+}
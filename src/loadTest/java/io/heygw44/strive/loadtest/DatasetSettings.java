@@ -0,0 +1,50 @@
+package io.heygw44.strive.loadtest;
+
+/**
+ * 합성 데이터셋 규모/분포 설정 (-Ddatagen.* 시스템 프로퍼티, Gradle에서는 -Pdatagen.*로 전달)
+ * @param users                  사용자 수
+ * @param organizers             모임을 개설하는 사용자 수 (앞쪽 사용자부터, Zipf 분포로 개설 수 편중)
+ * @param categories             카테고리 수
+ * @param cities                 상위 지역(시) 수
+ * @param districtsPerCity       시별 하위 지역(구) 수 - 모임은 하위 지역에 등록
+ * @param meetups                모임 수
+ * @param participationsPerMeetup 모임당 평균 참여 신청 수 (인기 모임에 Zipf 분포로 집중)
+ * @param skew                   Zipf 지수 (0이면 균등, 클수록 상위 항목 쏠림 심화)
+ * @param seed                   난수 시드 (같은 시드면 같은 데이터 생성)
+ * @param batchSize              JDBC 배치 크기
+ * @param password               모든 사용자의 비밀번호
+ */
+record DatasetSettings(
+        int users,
+        int organizers,
+        int categories,
+        int cities,
+        int districtsPerCity,
+        int meetups,
+        double participationsPerMeetup,
+        double skew,
+        long seed,
+        int batchSize,
+        String password
+) {
+
+    static DatasetSettings fromSystemProperties() {
+        return new DatasetSettings(
+                Integer.parseInt(property("users", "100000")),
+                Integer.parseInt(property("organizers", "5000")),
+                Integer.parseInt(property("categories", "20")),
+                Integer.parseInt(property("cities", "17")),
+                Integer.parseInt(property("districtsPerCity", "15")),
+                Integer.parseInt(property("meetups", "200000")),
+                Double.parseDouble(property("participationsPerMeetup", "8")),
+                Double.parseDouble(property("skew", "1.0")),
+                Long.parseLong(property("seed", "42")),
+                Integer.parseInt(property("batchSize", "1000")),
+                property("password", "datagen-password")
+        );
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("datagen." + name, defaultValue);
+    }
+}
@@ -0,0 +1,69 @@
+package io.heygw44.strive.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간 히스토그램과 결과 카운터
+ * 지연 시간은 예정된 발사 시각 기준으로 측정해 coordinated omission을 보정한다.
+ */
+final class EndpointStats {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String name;
+    private final Histogram histogram = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+    private final LongAdder success = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(long intendedStartNanos, int status) {
+        histogram.recordValue(Math.min(System.nanoTime() - intendedStartNanos, MAX_TRACKABLE_NANOS));
+        if (status >= 200 && status < 400) {
+            success.increment();
+        } else if (status >= 400 && status < 500) {
+            clientErrors.increment();
+        } else {
+            serverErrors.increment();
+        }
+    }
+
+    /**
+     * 전제 조건이 없어 요청을 보내지 않은 경우 (예: 승인할 신청이 없음)
+     */
+    void skip() {
+        skipped.increment();
+    }
+
+    Histogram histogram() {
+        return histogram;
+    }
+
+    long success() {
+        return success.sum();
+    }
+
+    long clientErrors() {
+        return clientErrors.sum();
+    }
+
+    long serverErrors() {
+        return serverErrors.sum();
+    }
+
+    long skipped() {
+        return skipped.sum();
+    }
+}
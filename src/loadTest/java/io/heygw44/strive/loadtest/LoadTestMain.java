@@ -0,0 +1,210 @@
+package io.heygw44.strive.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.heygw44.strive.StriveApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+
+/**
+ * 핵심 API 부하 테스트 진입점 (./gradlew loadTest)
+ * 애플리케이션을 임의 포트로 기동하고 합성 데이터를 적재한 뒤, 엔드포인트별 도착률로
+ * 목록/상세 조회, 로그인, 참여 신청/승인 요청을 보내고 지연 분포를 기준선과 비교한다.
+ * 인증 요청은 Bearer 토큰을 사용해 세션/CSRF 처리 없이 보낸다.
+ */
+public final class LoadTestMain {
+
+    private static final double HOT_TRAFFIC_RATIO = 0.8;
+    private static final double HOT_MEETUP_RATIO = 0.1;
+    private static final double FILTERED_LIST_RATIO = 0.3;
+    private static final int LIST_PAGES = 5;
+    private static final int HOT_REGIONS = 3;
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        SpringApplication application = new SpringApplication(StriveApplication.class);
+        application.setAdditionalProfiles("local", "loadtest");
+        boolean regression;
+        try (ConfigurableApplicationContext context = application.run(
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + settings.tomcatMaxThreads(),
+                "--spring.threads.virtual.enabled=" + settings.virtualThreads(),
+                "--strive.virtual-threads.pinning-monitor.enabled=" + settings.virtualThreads())) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            DatasetSettings dataset = settings.dataset();
+            DatasetGenerator.Dataset data = new DatasetGenerator(
+                    context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class)).generate(dataset);
+            StriveHttpClient client = new StriveHttpClient(URI.create("http://localhost:" + port), objectMapper);
+            int activeUsers = Math.min(dataset.users(), Math.max(settings.activeUsers(), dataset.organizers()));
+            Map<Long, String> tokens = issueTokens(client, dataset, data, activeUsers);
+
+            List<EndpointStats> stats = new ArrayList<>();
+            List<OpenModelDriver.Scenario> scenarios = scenarios(settings, client, data, tokens, stats);
+            System.out.printf("부하 시작: 워밍업 %s, 측정 %s, 사용자 %d, 모임 %d, 스레드 %s%n",
+                    settings.warmup(), settings.duration(), dataset.users(), dataset.meetups(),
+                    settings.virtualThreads() ? "virtual" : "platform(max " + settings.tomcatMaxThreads() + ")");
+            new OpenModelDriver().run(scenarios, settings.warmup(), settings.duration());
+
+            LoadTestReport report = new LoadTestReport(objectMapper, stats, settings.duration());
+            report.print();
+            report.write(settings.resultFile());
+            if (settings.updateBaseline()) {
+                report.write(settings.baselineFile());
+                regression = false;
+            } else {
+                List<String> regressions = report.compareWith(settings.baselineFile(), settings.tolerance());
+                regressions.forEach(r -> System.out.println("회귀: " + r));
+                regression = !regressions.isEmpty();
+            }
+        }
+        System.exit(regression ? 1 : 0);
+    }
+
+    /**
+     * 앞쪽 활성 사용자(주최자 포함)별 액세스 토큰 발급 (사용자 ID → 토큰)
+     */
+    private static Map<Long, String> issueTokens(StriveHttpClient client, DatasetSettings dataset,
+                                                 DatasetGenerator.Dataset data, int activeUsers) throws Exception {
+        Map<Long, String> tokens = new ConcurrentHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < activeUsers; i++) {
+                String email = DatasetGenerator.email(i);
+                long userId = data.userIds()[i];
+                futures.add(executor.submit(() -> {
+                    StriveHttpClient.Response response = client.post("/api/auth/token",
+                            Map.of("email", email, "password", dataset.password()), null);
+                    if (!response.isSuccess()) {
+                        throw new IllegalStateException("토큰 발급 실패: " + email + " (" + response.status() + ")");
+                    }
+                    tokens.put(userId, response.data().path("accessToken").asText());
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return tokens;
+    }
+
+    private static List<OpenModelDriver.Scenario> scenarios(LoadTestSettings settings, StriveHttpClient client,
+                                                            DatasetGenerator.Dataset data,
+                                                            Map<Long, String> tokens, List<EndpointStats> stats) {
+        DatasetSettings dataset = settings.dataset();
+        long[] meetupIds = data.meetupIdsByPopularity();
+        List<Long> participants = new ArrayList<>();
+        for (int i = dataset.organizers(); i < tokens.size(); i++) {
+            participants.add(data.userIds()[i]);
+        }
+        List<String> activeEmails = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            activeEmails.add(DatasetGenerator.email(i));
+        }
+        ConcurrentLinkedQueue<long[]> pendingApprovals = new ConcurrentLinkedQueue<>();
+
+        List<OpenModelDriver.Scenario> scenarios = new ArrayList<>();
+        scenarios.add(scenario(stats, "GET /api/meetups", settings.listRate(), () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String path = "/api/meetups?page=" + random.nextInt(LIST_PAGES);
+            if (random.nextDouble() < FILTERED_LIST_RATIO) {
+                path += "&regionCode=" + DatasetGenerator.districtCode(dataset, random.nextInt(HOT_REGIONS));
+            }
+            return client.get(path, null).status();
+        }));
+        scenarios.add(scenario(stats, "GET /api/meetups/{id}", settings.detailRate(),
+                () -> client.get("/api/meetups/" + skewedMeetup(meetupIds), null).status()));
+        scenarios.add(scenario(stats, "POST /api/auth/login", settings.loginRate(), () -> {
+            String email = activeEmails.get(ThreadLocalRandom.current().nextInt(activeEmails.size()));
+            return client.post("/api/auth/login",
+                    Map.of("email", email, "password", dataset.password()), null).status();
+        }));
+        scenarios.add(scenario(stats, "POST participations", settings.participationRequestRate(), () -> {
+            if (participants.isEmpty()) {
+                return OpenModelDriver.SKIPPED;
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Long userId = participants.get(random.nextInt(participants.size()));
+            long meetupId = skewedMeetup(meetupIds);
+            StriveHttpClient.Response response = client.post(
+                    "/api/meetups/" + meetupId + "/participations", null, tokens.get(userId));
+            if (response.status() == 201) {
+                pendingApprovals.add(new long[]{meetupId, response.data().path("id").asLong()});
+            }
+            return response.status();
+        }));
+        scenarios.add(scenario(stats, "PATCH approve", settings.participationApproveRate(), () -> {
+            long[] pending = pendingApprovals.poll();
+            if (pending == null) {
+                return OpenModelDriver.SKIPPED;
+            }
+            String organizerToken = tokens.get(data.organizerByMeetup().get(pending[0]));
+            return client.patch("/api/meetups/" + pending[0] + "/participations/" + pending[1] + "/approve",
+                    organizerToken).status();
+        }));
+        scenarios.add(contendedApprove(settings, client, data, tokens, participants, stats));
+        return scenarios;
+    }
+
+    /**
+     * 가장 인기 있는 모임 하나에 승인 요청을 집중시켜 모임 행 비관적 락 경합을 만든다.
+     * 승인은 검증 전에 모임 락부터 잡으므로, 이미 처리된 신청에 대한 409 응답도 락 대기를 거친다.
+     */
+    private static OpenModelDriver.Scenario contendedApprove(LoadTestSettings settings, StriveHttpClient client,
+                                                             DatasetGenerator.Dataset data, Map<Long, String> tokens,
+                                                             List<Long> participants, List<EndpointStats> stats) {
+        long meetupId = data.meetupIdsByPopularity()[0];
+        String organizerToken = tokens.get(data.organizerByMeetup().get(meetupId));
+        long participationId = -1;
+        if (settings.contendedApproveRate() > 0 && !participants.isEmpty()) {
+            for (Long userId : participants) {
+                StriveHttpClient.Response response = client.post(
+                        "/api/meetups/" + meetupId + "/participations", null, tokens.get(userId));
+                if (response.status() == 201) {
+                    participationId = response.data().path("id").asLong();
+                    break;
+                }
+            }
+        }
+        String path = "/api/meetups/" + meetupId + "/participations/" + participationId + "/approve";
+        boolean ready = participationId > 0;
+        return scenario(stats, "PATCH approve (contended)", settings.contendedApproveRate(),
+                () -> ready ? client.patch(path, organizerToken).status() : OpenModelDriver.SKIPPED);
+    }
+
+    private static OpenModelDriver.Scenario scenario(List<EndpointStats> stats, String name, double rate,
+                                                     IntSupplier action) {
+        EndpointStats endpoint = new EndpointStats(name);
+        stats.add(endpoint);
+        return new OpenModelDriver.Scenario(endpoint, rate, action);
+    }
+
+    /**
+     * 트래픽의 80%는 인기 상위 10% 모임에 집중
+     */
+    private static long skewedMeetup(long[] meetupIds) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int hot = Math.max(1, (int) (meetupIds.length * HOT_MEETUP_RATIO));
+        int index = random.nextDouble() < HOT_TRAFFIC_RATIO ? random.nextInt(hot) : random.nextInt(meetupIds.length);
+        return meetupIds[index];
+    }
+}
@@ -0,0 +1,119 @@
+package io.heygw44.strive.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 결과 요약, JSON 저장 및 기준선 비교
+ * 기준선 대비 p99 지연이 허용 오차보다 늘거나 처리량이 허용 오차보다 줄면 회귀로 판정한다.
+ */
+final class LoadTestReport {
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, EndpointResult> results = new LinkedHashMap<>();
+
+    LoadTestReport(ObjectMapper objectMapper, List<EndpointStats> stats, Duration duration) {
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+        for (EndpointStats endpoint : stats) {
+            results.put(endpoint.name(), EndpointResult.from(endpoint, duration));
+        }
+    }
+
+    void print() {
+        System.out.printf("%n%-24s %10s %9s %9s %9s %9s %9s %7s %7s %7s%n",
+                "endpoint", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "p999(ms)", "max(ms)", "4xx", "5xx", "skip");
+        results.forEach((name, r) -> System.out.printf("%-24s %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d %7d %7d%n",
+                name, r.throughput(), r.p50Millis(), r.p95Millis(), r.p99Millis(), r.p999Millis(), r.maxMillis(),
+                r.clientErrors(), r.serverErrors(), r.skipped()));
+    }
+
+    void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        objectMapper.writeValue(file.toFile(), results);
+        System.out.println("결과 저장: " + file.toAbsolutePath());
+    }
+
+    /**
+     * @return 회귀 항목 (기준선이 없으면 빈 목록)
+     */
+    List<String> compareWith(Path baselineFile, double tolerance) throws IOException {
+        if (!Files.exists(baselineFile)) {
+            System.out.println("기준선 없음: " + baselineFile + " (-Ploadtest.updateBaseline=true 로 생성)");
+            return List.of();
+        }
+        Map<String, EndpointResult> baseline = objectMapper.readValue(baselineFile.toFile(),
+                objectMapper.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, EndpointResult.class));
+        if (baseline.isEmpty()) {
+            System.out.println("기준선 비어 있음: " + baselineFile + " (-Ploadtest.updateBaseline=true 로 기록)");
+            return List.of();
+        }
+
+        List<String> regressions = new ArrayList<>();
+        baseline.forEach((name, expected) -> {
+            EndpointResult actual = results.get(name);
+            if (actual == null) {
+                return;
+            }
+            if (actual.p99Millis() > expected.p99Millis() * (1 + tolerance)) {
+                regressions.add("%s p99 %.2fms -> %.2fms".formatted(name, expected.p99Millis(), actual.p99Millis()));
+            }
+            if (actual.throughput() < expected.throughput() * (1 - tolerance)) {
+                regressions.add("%s 처리량 %.1f -> %.1f req/s".formatted(name, expected.throughput(), actual.throughput()));
+            }
+        });
+        return regressions;
+    }
+
+    /**
+     * @param throughput   측정 구간 초당 완료 요청 수
+     * @param clientErrors 4xx 응답 수
+     * @param serverErrors 5xx 응답 및 전송 오류 수
+     * @param skipped      전제 조건이 없어 보내지 않은 요청 수
+     */
+    record EndpointResult(
+            double throughput,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            long success,
+            long clientErrors,
+            long serverErrors,
+            long skipped
+    ) {
+
+        static EndpointResult from(EndpointStats stats, Duration duration) {
+            Histogram histogram = stats.histogram();
+            return new EndpointResult(
+                    histogram.getTotalCount() / (duration.toMillis() / 1000.0),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    stats.success(),
+                    stats.clientErrors(),
+                    stats.serverErrors(),
+                    stats.skipped()
+            );
+        }
+
+        private static double millis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.heygw44.strive.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (-Dloadtest.* 시스템 프로퍼티, Gradle에서는 -Ploadtest.*로 전달)
+ * 도착률은 초당 요청 수이며 응답 속도와 무관하게 일정 간격으로 요청을 발생시킨다 (open model).
+ * virtualThreads로 요청 처리 스레드 모드를 바꿔 같은 부하에서 두 모드를 비교한다.
+ */
+record LoadTestSettings(
+        Duration warmup,
+        Duration duration,
+        DatasetSettings dataset,
+        int activeUsers,
+        double listRate,
+        double detailRate,
+        double loginRate,
+        double participationRequestRate,
+        double participationApproveRate,
+        double contendedApproveRate,
+        boolean virtualThreads,
+        int tomcatMaxThreads,
+        Path resultFile,
+        Path baselineFile,
+        double tolerance,
+        boolean updateBaseline
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Duration.parse(property("warmup", "PT10S")),
+                Duration.parse(property("duration", "PT60S")),
+                new DatasetSettings(
+                        Integer.parseInt(property("users", "2000")),
+                        Integer.parseInt(property("organizers", "20")),
+                        12, 5, 5,
+                        Integer.parseInt(property("meetups", "500")),
+                        Double.parseDouble(property("participationsPerMeetup", "5")),
+                        1.0, 42, 1_000, "loadtest-password"),
+                Integer.parseInt(property("activeUsers", "100")),
+                Double.parseDouble(property("rate.list", "50")),
+                Double.parseDouble(property("rate.detail", "100")),
+                Double.parseDouble(property("rate.login", "2")),
+                Double.parseDouble(property("rate.participationRequest", "10")),
+                Double.parseDouble(property("rate.participationApprove", "5")),
+                Double.parseDouble(property("rate.contendedApprove", "0")),
+                Boolean.parseBoolean(property("virtualThreads", "false")),
+                Integer.parseInt(property("tomcatMaxThreads", "200")),
+                Path.of(property("resultFile", "build/reports/loadtest/result.json")),
+                Path.of(property("baselineFile", "src/loadTest/resources/loadtest-baseline.json")),
+                Double.parseDouble(property("tolerance", "0.2")),
+                Boolean.parseBoolean(property("updateBaseline", "false"))
+        );
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
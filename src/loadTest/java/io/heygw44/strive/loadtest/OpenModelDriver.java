@@ -0,0 +1,81 @@
+package io.heygw44.strive.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntSupplier;
+
+/**
+ * 도착률 고정(open model) 부하 발생기
+ * 시나리오마다 전용 스케줄러 스레드가 일정 간격으로 요청을 가상 스레드에 제출하며,
+ * 이전 응답을 기다리지 않으므로 서버가 느려져도 도착률이 줄지 않는다.
+ */
+final class OpenModelDriver {
+
+    static final int SKIPPED = -1;
+
+    /**
+     * @param stats         결과 집계 대상
+     * @param ratePerSecond 초당 도착률
+     * @param action        요청 실행 후 상태 코드 반환 (보낼 요청이 없으면 SKIPPED)
+     */
+    record Scenario(EndpointStats stats, double ratePerSecond, IntSupplier action) {
+    }
+
+    void run(List<Scenario> scenarios, Duration warmup, Duration duration) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + warmup.toNanos();
+        long endNanos = measureFromNanos + duration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Thread> schedulers = new ArrayList<>();
+            for (Scenario scenario : scenarios) {
+                if (scenario.ratePerSecond() <= 0) {
+                    continue;
+                }
+                Thread scheduler = Thread.ofPlatform()
+                        .name("loadtest-" + scenario.stats().name())
+                        .daemon()
+                        .start(() -> schedule(scenario, workers, startNanos, measureFromNanos, endNanos));
+                schedulers.add(scheduler);
+            }
+            for (Thread scheduler : schedulers) {
+                scheduler.join();
+            }
+            workers.shutdown();
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private void schedule(Scenario scenario, ExecutorService workers,
+                          long startNanos, long measureFromNanos, long endNanos) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / scenario.ratePerSecond());
+        for (long tick = 0; ; tick++) {
+            long intendedStart = startNanos + tick * intervalNanos;
+            if (intendedStart >= endNanos) {
+                return;
+            }
+            // 워밍업 구간에 예정된 요청은 실행만 하고 집계하지 않음
+            boolean measured = intendedStart >= measureFromNanos;
+            long waitNanos = intendedStart - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            workers.submit(() -> {
+                int status = scenario.action().getAsInt();
+                if (!measured) {
+                    return;
+                }
+                if (status == SKIPPED) {
+                    scenario.stats().skip();
+                } else {
+                    scenario.stats().record(intendedStart, status);
+                }
+            });
+        }
+    }
+}
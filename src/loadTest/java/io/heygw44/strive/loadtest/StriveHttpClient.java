@@ -0,0 +1,114 @@
+package io.heygw44.strive.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트용 HTTP 클라이언트 (JSON 요청/응답, Bearer 토큰 인증)
+ * 네트워크 오류는 상태 코드 599로 보고한다.
+ */
+final class StriveHttpClient {
+
+    static final int TRANSPORT_ERROR = 599;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+
+    StriveHttpClient(URI baseUri, ObjectMapper objectMapper) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+    }
+
+    Response get(String path, String accessToken) {
+        return send(request(path, accessToken).GET());
+    }
+
+    Response post(String path, Object body, String accessToken) {
+        if (body == null) {
+            return send(request(path, accessToken).POST(HttpRequest.BodyPublishers.noBody()));
+        }
+        return send(request(path, accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body))));
+    }
+
+    Response patch(String path, String accessToken) {
+        return send(request(path, accessToken).method("PATCH", HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private HttpRequest.Builder request(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    private Response send(HttpRequest.Builder builder) {
+        try {
+            HttpResponse<byte[]> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            return new Response(TRANSPORT_ERROR, new byte[0]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(TRANSPORT_ERROR, new byte[0]);
+        }
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    final class Response {
+        private final int status;
+        private final byte[] body;
+
+        private Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        int status() {
+            return status;
+        }
+
+        boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        /**
+         * ApiResponse의 data 필드
+         */
+        JsonNode data() {
+            try {
+                JsonNode root = objectMapper.readTree(body);
+                return root == null ? MissingNode.getInstance() : root.path("data");
+            } catch (IOException e) {
+                return MissingNode.getInstance();
+            }
+        }
+    }
+}
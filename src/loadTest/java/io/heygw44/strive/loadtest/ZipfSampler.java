@@ -0,0 +1,35 @@
+package io.heygw44.strive.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 0..n-1 순위에 대한 Zipf 분포 샘플러 (누적 분포 + 이진 탐색)
+ * 순위 k의 가중치는 1 / (k + 1)^skew 이다.
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double skew) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += weight(k, skew);
+            cumulative[k] = sum;
+        }
+    }
+
+    static double weight(int rank, double skew) {
+        return 1.0 / Math.pow(rank + 1, skew);
+    }
+
+    int sample(SplittableRandom random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+    }
+}
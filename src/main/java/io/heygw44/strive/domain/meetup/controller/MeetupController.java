@@ -44,9 +44,7 @@ public class MeetupController {
 
         Long organizerId = userDetails.getUserId();
         // Service에서 응답 DTO까지 생성
-        MeetupResponse response = meetupService.getMeetupResponse(
-            meetupService.createMeetup(request, organizerId).getId()
-        );
+        MeetupResponse response = meetupService.createMeetupAndGetResponse(request, organizerId);
 
         return ResponseEntity.status(HttpStatus.CREATED)
             .body(ApiResponse.success(response));
@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 
 /**
  * 모임 생성 요청 DTO
+ * categoryId는 응답과 같은 문자열("123")과 숫자 모두 받는다 (TSID는 2^53을 넘으므로 클라이언트는 문자열 사용 권장).
  */
 public record CreateMeetupRequest(
     @NotBlank(message = "모임 제목을 입력해주세요")
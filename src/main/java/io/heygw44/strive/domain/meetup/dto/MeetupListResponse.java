@@ -1,5 +1,7 @@
 package io.heygw44.strive.domain.meetup.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.heygw44.strive.domain.meetup.entity.Meetup;
 import io.heygw44.strive.domain.meetup.entity.MeetupStatus;
 
@@ -10,9 +12,9 @@ import java.time.LocalDateTime;
  * 목록 조회 시 불필요한 필드 제외
  */
 public record MeetupListResponse(
-    Long id,
+    @JsonSerialize(using = ToStringSerializer.class) Long id,
     String title,
-    Long categoryId,
+    @JsonSerialize(using = ToStringSerializer.class) Long categoryId,
     String categoryName,
     String regionCode,
     String regionName,
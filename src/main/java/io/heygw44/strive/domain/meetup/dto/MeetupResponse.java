@@ -1,5 +1,7 @@
 package io.heygw44.strive.domain.meetup.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.heygw44.strive.domain.meetup.entity.Meetup;
 import io.heygw44.strive.domain.meetup.entity.MeetupStatus;
 
@@ -10,12 +12,12 @@ import java.time.LocalDateTime;
  * 주최자 닉네임, 카테고리명, 지역명 포함
  */
 public record MeetupResponse(
-    Long id,
-    Long organizerId,
+    @JsonSerialize(using = ToStringSerializer.class) Long id,
+    @JsonSerialize(using = ToStringSerializer.class) Long organizerId,
     String organizerNickname,
     String title,
     String description,
-    Long categoryId,
+    @JsonSerialize(using = ToStringSerializer.class) Long categoryId,
     String categoryName,
     String regionCode,
     String regionName,
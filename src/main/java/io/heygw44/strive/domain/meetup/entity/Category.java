@@ -1,5 +1,6 @@
 package io.heygw44.strive.domain.meetup.entity;
 
+import io.heygw44.strive.global.entity.TsidId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -15,7 +16,7 @@ import lombok.NoArgsConstructor;
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
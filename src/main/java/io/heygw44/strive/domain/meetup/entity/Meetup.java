@@ -1,6 +1,7 @@
 package io.heygw44.strive.domain.meetup.entity;
 
 import io.heygw44.strive.global.entity.BaseTimeEntity;
+import io.heygw44.strive.global.entity.TsidId;
 import io.heygw44.strive.global.exception.BusinessException;
 import io.heygw44.strive.global.exception.ErrorCode;
 import jakarta.persistence.*;
@@ -12,20 +13,21 @@ import java.time.LocalDateTime;
 
 /**
  * 모임 엔티티
+ * 스키마/인덱스는 Flyway 마이그레이션(db/migration)이 관리하며 아래 인덱스 선언은 그 내용을 반영한 것이다.
  */
 @Entity
 @Table(name = "meetup", indexes = {
     @Index(name = "idx_meetup_list", columnList = "region_code, category_id, status, start_at"),
-    @Index(name = "idx_meetup_recruit_end", columnList = "recruit_end_at"),
-    @Index(name = "idx_meetup_organizer", columnList = "organizer_id"),
-    @Index(name = "idx_meetup_deleted", columnList = "deleted_at")
+    @Index(name = "idx_meetup_status_start", columnList = "status, deleted_at, start_at, id"),
+    @Index(name = "idx_meetup_organizer_created", columnList = "organizer_id, created_at"),
+    @Index(name = "idx_meetup_status_recruit_end", columnList = "status, recruit_end_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Meetup extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(name = "organizer_id", nullable = false)
@@ -0,0 +1,16 @@
+package io.heygw44.strive.domain.meetup.repository;
+
+import io.heygw44.strive.domain.meetup.entity.Meetup;
+
+/**
+ * 모임 상세 프로젝션 (모임 + 주최자 닉네임 + 카테고리명 + 지역명 + 승인 인원을 한 번에 조회)
+ * 참조 대상이 없으면 이름 필드는 null이다.
+ */
+public record MeetupDetailView(
+    Meetup meetup,
+    String organizerNickname,
+    String categoryName,
+    String regionName,
+    Long approvedCount
+) {
+}
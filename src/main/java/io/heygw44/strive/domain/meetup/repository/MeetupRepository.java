@@ -2,8 +2,10 @@ package io.heygw44.strive.domain.meetup.repository;
 
 import io.heygw44.strive.domain.meetup.entity.Meetup;
 import io.heygw44.strive.domain.meetup.entity.MeetupStatus;
+import io.heygw44.strive.domain.participation.entity.ParticipationStatus;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,6 +17,10 @@ import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+/**
+ * 응답 조립 전용 조회(상세/목록)는 읽기 전용 힌트로 스냅샷 없이 적재하고 조회 전 자동 flush를 생략한다.
+ * 수정 경로는 findByIdAndDeletedAtIsNull / findByIdForUpdate를 사용한다.
+ */
 public interface MeetupRepository extends JpaRepository<Meetup, Long> {
 
     /**
@@ -22,6 +28,33 @@ public interface MeetupRepository extends JpaRepository<Meetup, Long> {
      */
     Optional<Meetup> findByIdAndDeletedAtIsNull(Long id);
 
+    /**
+     * 상세 응답용 단건 조회 (삭제되지 않은 모임)
+     * 주최자/카테고리/지역은 LEFT JOIN, 승인 인원은 상관 서브쿼리(idx_participation_meetup_status)로 한 문장에 조회
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("""
+        SELECT new io.heygw44.strive.domain.meetup.repository.MeetupDetailView(
+            m, u.nickname, c.name, r.name,
+            (SELECT COUNT(p) FROM Participation p WHERE p.meetupId = m.id AND p.status = :approved))
+        FROM Meetup m
+        LEFT JOIN User u ON u.id = m.organizerId
+        LEFT JOIN Category c ON c.id = m.categoryId
+        LEFT JOIN Region r ON r.code = m.regionCode
+        WHERE m.id = :id AND m.deletedAt IS NULL
+        """)
+    Optional<MeetupDetailView> findDetailById(@Param("id") Long id, @Param("approved") ParticipationStatus approved);
+
+    /**
+     * 주최자 ID만 조회 (락 획득 전 권한 검증용)
+     * 엔티티를 영속성 컨텍스트에 올리지 않으므로 이후 findByIdForUpdate가 락을 잡은 최신 행 상태를 읽는다.
+     */
+    @Query("SELECT m.organizerId FROM Meetup m WHERE m.id = :id AND m.deletedAt IS NULL")
+    Optional<Long> findOrganizerIdById(@Param("id") Long id);
+
     /**
      * 비관적 락 조회 (M3/M4 동시성 제어용)
      * 타임아웃 3초로 설정하여 데드락 방지
@@ -35,6 +68,10 @@ public interface MeetupRepository extends JpaRepository<Meetup, Long> {
      * 목록 조회 (필터링 + 페이징)
      * 인덱스: idx_meetup_list (region_code, category_id, status, start_at)
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
     @Query("""
         SELECT m FROM Meetup m
         WHERE m.deletedAt IS NULL
@@ -56,6 +93,10 @@ public interface MeetupRepository extends JpaRepository<Meetup, Long> {
     /**
      * 특정 주최자의 모임 목록 조회
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
     @Query("""
         SELECT m FROM Meetup m
         WHERE m.deletedAt IS NULL
@@ -2,82 +2,104 @@ package io.heygw44.strive.domain.meetup.service;
 
 import io.heygw44.strive.domain.meetup.dto.MeetupListResponse;
 import io.heygw44.strive.domain.meetup.dto.MeetupResponse;
-import io.heygw44.strive.domain.meetup.entity.Category;
 import io.heygw44.strive.domain.meetup.entity.Meetup;
-import io.heygw44.strive.domain.meetup.entity.Region;
-import io.heygw44.strive.domain.meetup.repository.CategoryRepository;
-import io.heygw44.strive.domain.meetup.repository.RegionRepository;
+import io.heygw44.strive.domain.meetup.repository.MeetupDetailView;
 import io.heygw44.strive.domain.participation.entity.ParticipationStatus;
 import io.heygw44.strive.domain.participation.repository.ParticipationRepository;
-import io.heygw44.strive.domain.user.entity.User;
-import io.heygw44.strive.domain.user.repository.UserRepository;
+import io.heygw44.strive.global.loader.ReferenceNameLoader;
+import io.heygw44.strive.global.loader.ReferenceNames;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * 모임 응답 DTO 조립기 (조회 전용 책임 분리)
+ * 주최자 닉네임/카테고리명/지역명은 ReferenceNames 배치로 모아 유형별 한 번씩 조회한다.
  */
 @Component
 @RequiredArgsConstructor
 public class MeetupResponseAssembler {
 
-    private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
-    private final RegionRepository regionRepository;
+    private static final String UNKNOWN = "알 수 없음";
+
+    private final ReferenceNameLoader referenceNameLoader;
     private final ParticipationRepository participationRepository;
 
+    /**
+     * 엔티티로 상세 응답 생성 (수정 직후 응답용 - 조회 API는 단일 조회 프로젝션을 사용)
+     */
     public MeetupResponse toMeetupResponse(Meetup meetup) {
-        String organizerNickname = userRepository.findById(meetup.getOrganizerId())
-            .map(User::getNickname)
-            .orElse("알 수 없음");
+        ReferenceNames names = referenceNameLoader.newBatch();
+        Supplier<String> organizerNickname = names.userNickname(meetup.getOrganizerId());
+        Supplier<String> categoryName = names.categoryName(meetup.getCategoryId());
+        Supplier<String> regionName = names.regionName(meetup.getRegionCode());
+        names.load();
 
-        String categoryName = categoryRepository.findById(meetup.getCategoryId())
-            .map(Category::getName)
-            .orElse("알 수 없음");
+        return MeetupResponse.from(meetup, orUnknown(organizerNickname), orUnknown(categoryName),
+            orUnknown(regionName), countApproved(meetup));
+    }
 
-        String regionName = regionRepository.findById(meetup.getRegionCode())
-            .map(Region::getName)
-            .orElse("알 수 없음");
+    /**
+     * 단일 조회 프로젝션으로 상세 응답 생성 (추가 조회 없음)
+     */
+    public MeetupResponse toMeetupResponse(MeetupDetailView detail) {
+        return MeetupResponse.from(
+            detail.meetup(),
+            Objects.requireNonNullElse(detail.organizerNickname(), UNKNOWN),
+            Objects.requireNonNullElse(detail.categoryName(), UNKNOWN),
+            Objects.requireNonNullElse(detail.regionName(), UNKNOWN),
+            detail.approvedCount() != null ? detail.approvedCount() : 0L
+        );
+    }
 
-        long approvedCount = participationRepository.countByMeetupIdAndStatus(
-            meetup.getId(), ParticipationStatus.APPROVED);
+    /**
+     * 방금 생성한 모임의 상세 응답 생성
+     * 카테고리/지역명은 생성 검증에서 읽은 값을 받고, 승인 인원은 항상 0이므로 조회하지 않는다.
+     */
+    public MeetupResponse toCreatedMeetupResponse(Meetup meetup, String categoryName, String regionName) {
+        ReferenceNames names = referenceNameLoader.newBatch();
+        Supplier<String> organizerNickname = names.userNickname(meetup.getOrganizerId());
+        names.load();
 
-        return MeetupResponse.from(meetup, organizerNickname, categoryName, regionName, approvedCount);
+        return MeetupResponse.from(meetup, orUnknown(organizerNickname), categoryName, regionName, 0L);
+    }
+
+    private long countApproved(Meetup meetup) {
+        return participationRepository.countByMeetupIdAndStatus(
+            meetup.getId(), ParticipationStatus.APPROVED);
     }
 
     /**
-     * 목록 응답 생성 (N+1 방지: 배치 조회)
+     * 목록 응답 생성 (N+1 방지: 페이지 전체의 카테고리/지역을 배치 조회)
      */
     public List<MeetupListResponse> toMeetupListResponses(List<Meetup> meetups) {
         if (meetups.isEmpty()) {
             return List.of();
         }
 
-        // 카테고리 ID 수집 및 배치 조회
-        Set<Long> categoryIds = meetups.stream()
-            .map(Meetup::getCategoryId)
-            .collect(Collectors.toSet());
-        Map<Long, String> categoryNameMap = categoryRepository.findAllById(categoryIds).stream()
-            .collect(Collectors.toMap(Category::getId, Category::getName));
-
-        // 지역 코드 수집 및 배치 조회
-        Set<String> regionCodes = meetups.stream()
-            .map(Meetup::getRegionCode)
-            .collect(Collectors.toSet());
-        Map<String, String> regionNameMap = regionRepository.findAllById(regionCodes).stream()
-            .collect(Collectors.toMap(Region::getCode, Region::getName));
+        ReferenceNames names = referenceNameLoader.newBatch();
+        List<Supplier<String>> categoryNames = meetups.stream()
+            .map(meetup -> names.categoryName(meetup.getCategoryId()))
+            .toList();
+        List<Supplier<String>> regionNames = meetups.stream()
+            .map(meetup -> names.regionName(meetup.getRegionCode()))
+            .toList();
+        names.load();
 
-        return meetups.stream()
-            .map(meetup -> MeetupListResponse.from(
-                meetup,
-                categoryNameMap.getOrDefault(meetup.getCategoryId(), "알 수 없음"),
-                regionNameMap.getOrDefault(meetup.getRegionCode(), "알 수 없음")
+        return IntStream.range(0, meetups.size())
+            .mapToObj(i -> MeetupListResponse.from(
+                meetups.get(i),
+                orUnknown(categoryNames.get(i)),
+                orUnknown(regionNames.get(i))
             ))
             .toList();
     }
+
+    private static String orUnknown(Supplier<String> name) {
+        return Objects.requireNonNullElse(name.get(), UNKNOWN);
+    }
 }
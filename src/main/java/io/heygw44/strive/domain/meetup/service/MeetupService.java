@@ -1,11 +1,15 @@
 package io.heygw44.strive.domain.meetup.service;
 
 import io.heygw44.strive.domain.meetup.dto.*;
+import io.heygw44.strive.domain.meetup.entity.Category;
 import io.heygw44.strive.domain.meetup.entity.Meetup;
 import io.heygw44.strive.domain.meetup.entity.MeetupStatus;
+import io.heygw44.strive.domain.meetup.entity.Region;
 import io.heygw44.strive.domain.meetup.repository.CategoryRepository;
+import io.heygw44.strive.domain.meetup.repository.MeetupDetailView;
 import io.heygw44.strive.domain.meetup.repository.MeetupRepository;
 import io.heygw44.strive.domain.meetup.repository.RegionRepository;
+import io.heygw44.strive.domain.participation.entity.ParticipationStatus;
 import io.heygw44.strive.global.exception.BusinessException;
 import io.heygw44.strive.global.exception.ErrorCode;
 import io.heygw44.strive.global.response.PageResponse;
@@ -35,19 +39,26 @@ public class MeetupService {
     private final MeetupResponseAssembler meetupResponseAssembler;
 
     /**
-     * 모임 생성
+     * 모임 생성 후 응답 생성 (생성 직후 상세 재조회 없음)
      * 도메인 규칙: recruitEndAt <= startAt, startAt < endAt
+     * 존재 검증 시 읽은 카테고리/지역명을 그대로 쓰고 주최자 닉네임은 닉네임 캐시에서 읽는다.
      */
     @Transactional
-    public Meetup createMeetup(CreateMeetupRequest request, Long organizerId) {
-        // 카테고리/지역 존재 검증
-        validateCategoryExists(request.categoryId());
-        validateRegionExists(request.regionCode());
+    public MeetupResponse createMeetupAndGetResponse(CreateMeetupRequest request, Long organizerId) {
+        String categoryName = categoryRepository.findById(request.categoryId())
+            .map(Category::getName)
+            .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+        String regionName = regionRepository.findById(request.regionCode())
+            .map(Region::getName)
+            .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
 
-        // 도메인 규칙 검증
         validateCreateRequest(request);
 
-        // 엔티티 생성 및 저장
+        Meetup saved = saveNewMeetup(request, organizerId);
+        return meetupResponseAssembler.toCreatedMeetupResponse(saved, categoryName, regionName);
+    }
+
+    private Meetup saveNewMeetup(CreateMeetupRequest request, Long organizerId) {
         Meetup meetup = Meetup.create(
             organizerId,
             request.title(),
@@ -77,10 +88,12 @@ public class MeetupService {
 
     /**
      * 모임 상세 응답 조회 (계층 분리: Controller에서 Repository 직접 참조 제거)
+     * 참조 이름과 승인 인원까지 단일 SQL로 조회
      */
     public MeetupResponse getMeetupResponse(Long meetupId) {
-        Meetup meetup = getMeetup(meetupId);
-        return meetupResponseAssembler.toMeetupResponse(meetup);
+        MeetupDetailView detail = meetupRepository.findDetailById(meetupId, ParticipationStatus.APPROVED)
+            .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+        return meetupResponseAssembler.toMeetupResponse(detail);
     }
 
     /**
@@ -251,16 +264,4 @@ public class MeetupService {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR);
         }
     }
-
-    private void validateCategoryExists(Long categoryId) {
-        if (!categoryRepository.existsById(categoryId)) {
-            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
-        }
-    }
-
-    private void validateRegionExists(String regionCode) {
-        if (!regionRepository.existsByCode(regionCode)) {
-            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
-        }
-    }
 }
@@ -1,5 +1,7 @@
 package io.heygw44.strive.domain.participation.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.heygw44.strive.domain.participation.entity.Participation;
 import io.heygw44.strive.domain.participation.entity.ParticipationStatus;
 
@@ -9,9 +11,9 @@ import java.time.LocalDateTime;
  * 참여 응답 DTO
  */
 public record ParticipationResponse(
-    Long id,
-    Long meetupId,
-    Long userId,
+    @JsonSerialize(using = ToStringSerializer.class) Long id,
+    @JsonSerialize(using = ToStringSerializer.class) Long meetupId,
+    @JsonSerialize(using = ToStringSerializer.class) Long userId,
     String userNickname,
     ParticipationStatus status,
     LocalDateTime createdAt,
@@ -1,6 +1,7 @@
 package io.heygw44.strive.domain.participation.entity;
 
 import io.heygw44.strive.global.entity.BaseTimeEntity;
+import io.heygw44.strive.global.entity.TsidId;
 import io.heygw44.strive.global.exception.BusinessException;
 import io.heygw44.strive.global.exception.ErrorCode;
 import jakarta.persistence.*;
@@ -19,14 +20,16 @@ import lombok.NoArgsConstructor;
        ),
        indexes = {
            @Index(name = "idx_participation_meetup_status",
-                  columnList = "meetup_id, status")
+                  columnList = "meetup_id, status"),
+           @Index(name = "idx_participation_meetup_created",
+                  columnList = "meetup_id, created_at")
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Participation extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(name = "meetup_id", nullable = false)
@@ -2,14 +2,17 @@ package io.heygw44.strive.domain.participation.repository;
 
 import io.heygw44.strive.domain.participation.entity.Participation;
 import io.heygw44.strive.domain.participation.entity.ParticipationStatus;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 public interface ParticipationRepository extends JpaRepository<Participation, Long> {
 
@@ -38,14 +41,25 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
     @Query("select p from Participation p where p.id = :participationId")
     Optional<Participation> findByIdForUpdate(@Param("participationId") Long participationId);
 
+    /**
+     * 신청자 ID만 조회 (락 획득 전 닉네임 조회용, 엔티티는 적재하지 않음)
+     */
+    @Query("select p.userId from Participation p where p.id = :participationId and p.meetupId = :meetupId")
+    Optional<Long> findUserIdByIdAndMeetupId(
+        @Param("participationId") Long participationId, @Param("meetupId") Long meetupId);
+
     /**
      * APPROVED 카운트 (정원 체크, AC-PART-02)
      */
     long countByMeetupIdAndStatus(Long meetupId, ParticipationStatus status);
 
     /**
-     * 모임별 참여 목록 (주최자용)
+     * 모임별 참여 목록 (주최자용, 응답 조립 전용 - 읽기 전용 적재)
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
     List<Participation> findByMeetupIdOrderByCreatedAtAsc(Long meetupId);
 
     /**
@@ -8,20 +8,22 @@ import io.heygw44.strive.domain.participation.dto.ParticipationResponse;
 import io.heygw44.strive.domain.participation.entity.Participation;
 import io.heygw44.strive.domain.participation.entity.ParticipationStatus;
 import io.heygw44.strive.domain.participation.repository.ParticipationRepository;
-import io.heygw44.strive.domain.user.entity.User;
-import io.heygw44.strive.domain.user.repository.UserRepository;
+import io.heygw44.strive.global.datasource.LockingWrite;
 import io.heygw44.strive.global.exception.BusinessException;
 import io.heygw44.strive.global.exception.ErrorCode;
+import io.heygw44.strive.global.loader.ReferenceNameLoader;
+import io.heygw44.strive.global.loader.ReferenceNames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * 참여 비즈니스 로직 서비스
@@ -34,7 +36,7 @@ public class ParticipationService {
 
     private final ParticipationRepository participationRepository;
     private final MeetupRepository meetupRepository;
-    private final UserRepository userRepository;
+    private final ReferenceNameLoader referenceNameLoader;
 
     /**
      * 참여 신청
@@ -56,7 +58,8 @@ public class ParticipationService {
         Participation participation = Participation.request(meetupId, userId);
         Participation saved;
         try {
-            saved = participationRepository.save(participation);
+            // 앱 생성 ID라 INSERT가 flush까지 미뤄지므로 제약 위반을 여기서 받기 위해 즉시 flush
+            saved = participationRepository.saveAndFlush(participation);
         } catch (DataIntegrityViolationException ex) {
             // 동시성 상황에서 유니크 제약 위반 발생 시 중복 신청으로 매핑
             throw new BusinessException(ErrorCode.PARTICIPATION_DUPLICATE);
@@ -73,6 +76,7 @@ public class ParticipationService {
      * AC-PART-03: APPROVED → CANCELLED 전이 허용
      */
     @Transactional
+    @LockingWrite
     public void cancelParticipation(Long meetupId, Long userId) {
         // 1. 본인 참여 조회
         Participation participation = participationRepository
@@ -103,31 +107,43 @@ public class ParticipationService {
      * AC-AUTH-03: Organizer만 승인 가능
      * AC-MEETUP-03: recruitEndAt 이후 승인 금지
      * AC-PART-02: 정원 초과 시 PART-409-CAPACITY (비관적 락으로 동시성 제어)
+     * 모임 행 락은 커밋까지 유지되므로 락이 필요 없는 주최자 검증과 닉네임 조회는 락 획득 전에 끝내고,
+     * 락 구간에는 상태/정원 검증과 전이만 둔다 (응답 조립은 DB 접근 없이 메모리에서).
+     * 격리 수준은 READ COMMITTED로 고정한다. MySQL 기본값(REPEATABLE READ)에서는 첫 일반 SELECT(락 전 사전 검증)
+     * 시점에 읽기 스냅샷이 고정되어, 락을 기다리는 동안 커밋된 다른 승인이 정원 카운트(일반 SELECT)에 보이지 않는다.
+     * READ COMMITTED는 문장마다 최신 커밋을 읽으므로 락 획득 후의 카운트가 직전 승인까지 반영한다.
      */
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @LockingWrite
     public ParticipationResponse approveParticipation(Long meetupId, Long participationId, Long organizerId) {
-        // 1. 비관적 락으로 모임 조회 (동시성 제어 - AC-PART-02)
-        Meetup meetup = meetupRepository.findByIdForUpdate(meetupId)
+        // 1. Organizer 권한 검증 → AUTH-403 (주최자는 변경되지 않으므로 락 없이 확인)
+        Long meetupOrganizerId = meetupRepository.findOrganizerIdById(meetupId)
             .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+        if (!meetupOrganizerId.equals(organizerId)) {
+            throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+        }
 
-        // 2. Organizer 권한 검증 → AUTH-403
-        validateOrganizer(meetup, organizerId);
+        // 2. 신청자 닉네임 조회 (락 밖)
+        Long participantId = participationRepository.findUserIdByIdAndMeetupId(participationId, meetupId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+        ReferenceNames names = referenceNameLoader.newBatch();
+        Supplier<String> nickname = names.userNickname(participantId);
+        names.load();
+
+        // 3. 비관적 락으로 모임 조회 (동시성 제어 - AC-PART-02) - 여기부터 커밋까지 락 보유
+        Meetup meetup = meetupRepository.findByIdForUpdate(meetupId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
 
-        // 3. 모임 상태/마감일 검증
+        // 4. 모임 상태/마감일 검증
         validateMeetupOpenForParticipation(meetup);
 
-        // 4. 참여 조회 및 모임 소속 확인
+        // 5. 참여 조회 (락) 및 상태 검증 (REQUESTED만 승인 가능)
         Participation participation = getParticipationForUpdateOrThrow(participationId);
-        if (!participation.belongsToMeetup(meetupId)) {
-            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
-        }
-
-        // 5. 상태 검증 (REQUESTED만 승인 가능)
         if (!participation.isStatus(ParticipationStatus.REQUESTED)) {
             throw new BusinessException(ErrorCode.PARTICIPATION_INVALID_STATE);
         }
 
-        // 6. 정원 검증 → PART-409-CAPACITY
+        // 6. 정원 검증 → PART-409-CAPACITY (락 획득 후 최신 커밋 기준 카운트 - READ COMMITTED)
         validateCapacity(meetup);
 
         // 7. APPROVED로 전이
@@ -136,7 +152,7 @@ public class ParticipationService {
         log.info("참여 승인 완료: meetupId={}, participationId={}, approvedBy={}",
             meetupId, participationId, organizerId);
 
-        return toResponse(participation);
+        return ParticipationResponse.from(participation, nickname.get());
     }
 
     /**
@@ -144,6 +160,7 @@ public class ParticipationService {
      * AC-AUTH-03: Organizer만 거절 가능
      */
     @Transactional
+    @LockingWrite
     public ParticipationResponse rejectParticipation(Long meetupId, Long participationId, Long organizerId) {
         // 1. 모임 조회
         Meetup meetup = getMeetupOrThrow(meetupId);
@@ -180,19 +197,8 @@ public class ParticipationService {
         List<Participation> participations = participationRepository
             .findByMeetupIdOrderByCreatedAtAsc(meetupId);
 
-        // 4. 사용자 정보 배치 조회 (N+1 방지)
-        List<Long> userIds = participations.stream()
-            .map(Participation::getUserId)
-            .distinct()
-            .toList();
-
-        Map<Long, String> userNicknameMap = userRepository.findAllById(userIds).stream()
-            .collect(Collectors.toMap(User::getId, User::getNickname));
-
-        // 5. 응답 조립
-        List<ParticipationResponse> responses = participations.stream()
-            .map(p -> ParticipationResponse.from(p, userNicknameMap.get(p.getUserId())))
-            .toList();
+        // 4. 응답 조립 (닉네임 배치 조회 - N+1 방지)
+        List<ParticipationResponse> responses = toResponses(participations);
 
         long approvedCount = participations.stream()
             .filter(p -> p.isStatus(ParticipationStatus.APPROVED))
@@ -245,9 +251,18 @@ public class ParticipationService {
     }
 
     private ParticipationResponse toResponse(Participation participation) {
-        String nickname = userRepository.findById(participation.getUserId())
-            .map(User::getNickname)
-            .orElse(null);
-        return ParticipationResponse.from(participation, nickname);
+        return toResponses(List.of(participation)).getFirst();
+    }
+
+    private List<ParticipationResponse> toResponses(List<Participation> participations) {
+        ReferenceNames names = referenceNameLoader.newBatch();
+        List<Supplier<String>> nicknames = participations.stream()
+            .map(p -> names.userNickname(p.getUserId()))
+            .toList();
+        names.load();
+
+        return IntStream.range(0, participations.size())
+            .mapToObj(i -> ParticipationResponse.from(participations.get(i), nicknames.get(i).get()))
+            .toList();
     }
 }
@@ -4,6 +4,7 @@ import io.heygw44.strive.domain.user.dto.*;
 import io.heygw44.strive.domain.user.service.AuthService;
 import io.heygw44.strive.global.exception.BusinessException;
 import io.heygw44.strive.global.exception.ErrorCode;
+import io.heygw44.strive.global.ratelimit.AuthRateLimiter;
 import io.heygw44.strive.global.response.ApiResponse;
 import io.heygw44.strive.global.security.CustomUserDetails;
 import jakarta.servlet.http.Cookie;
@@ -32,10 +33,15 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final SessionAuthenticationStrategy sessionAuthenticationStrategy;
     private final SecurityContextRepository securityContextRepository;
+    private final AuthRateLimiter authRateLimiter;
 
     @PostMapping("/signup")
     public ResponseEntity<ApiResponse<SignupResponse>> signup(
-            @Valid @RequestBody SignupRequest request) {
+            @Valid @RequestBody SignupRequest request,
+            HttpServletRequest httpRequest) {
+
+        // 비밀번호 해시 전에 요청 제한 확인
+        authRateLimiter.checkSignup(httpRequest.getRemoteAddr());
 
         SignupResponse response = authService.signup(request);
         return ResponseEntity
@@ -43,12 +49,24 @@ public class AuthController {
                 .body(ApiResponse.success(response));
     }
 
+    // 참고용 확인 - 최종 중복 여부는 가입 요청에서 판정
+    @GetMapping("/nickname-availability")
+    public ResponseEntity<ApiResponse<NicknameAvailabilityResponse>> checkNicknameAvailability(
+            @RequestParam String nickname) {
+
+        NicknameAvailabilityResponse response = authService.checkNicknameAvailability(nickname);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<LoginResponse>> login(
             @Valid @RequestBody LoginRequest request,
             HttpServletRequest httpRequest,
             HttpServletResponse httpResponse) {
 
+        // BCrypt 검증 전에 요청 제한 확인
+        authRateLimiter.checkLogin(httpRequest.getRemoteAddr(), request.email());
+
         // 인증 처리
         LoginResponse response = authService.authenticate(request);
 
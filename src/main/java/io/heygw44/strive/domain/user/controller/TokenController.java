@@ -0,0 +1,55 @@
+package io.heygw44.strive.domain.user.controller;
+
+import io.heygw44.strive.domain.user.dto.LoginRequest;
+import io.heygw44.strive.domain.user.dto.RefreshTokenRequest;
+import io.heygw44.strive.domain.user.dto.TokenResponse;
+import io.heygw44.strive.domain.user.service.TokenService;
+import io.heygw44.strive.global.ratelimit.AuthRateLimiter;
+import io.heygw44.strive.global.response.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 무상태 토큰 API (모바일 클라이언트용)
+ * 발급된 액세스 토큰은 Authorization: Bearer 헤더로 전달하며, 세션/CSRF 쿠키를 사용하지 않는다.
+ */
+@RestController
+@RequestMapping("/api/auth/token")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "strive.security.token", name = "enabled", havingValue = "true")
+public class TokenController {
+
+    private final TokenService tokenService;
+    private final AuthRateLimiter authRateLimiter;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<TokenResponse>> issueToken(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+
+        authRateLimiter.checkLogin(httpRequest.getRemoteAddr(), request.email());
+
+        TokenResponse response = tokenService.issueTokens(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<TokenResponse>> refreshToken(
+            @Valid @RequestBody RefreshTokenRequest request) {
+
+        TokenResponse response = tokenService.refresh(request.refreshToken());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/revoke")
+    public ResponseEntity<ApiResponse<Void>> revokeToken(
+            @Valid @RequestBody RefreshTokenRequest request) {
+
+        tokenService.revoke(request.refreshToken());
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+}
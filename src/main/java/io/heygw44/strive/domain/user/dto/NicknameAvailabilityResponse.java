@@ -0,0 +1,11 @@
+package io.heygw44.strive.domain.user.dto;
+
+/**
+ * 닉네임 사용 가능 여부 응답
+ * @param available 참고용 - true여도 다른 노드의 최근 가입과 겹치면 가입 시 DUPLICATE_NICKNAME으로 거절될 수 있음
+ */
+public record NicknameAvailabilityResponse(
+        String nickname,
+        boolean available
+) {
+}
@@ -1,12 +1,14 @@
 package io.heygw44.strive.domain.user.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.heygw44.strive.domain.user.entity.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public record ProfileResponse(
-        Long id,
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
         String email,
         String nickname,
         String bioText,
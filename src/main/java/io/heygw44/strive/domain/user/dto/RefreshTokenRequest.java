@@ -0,0 +1,9 @@
+package io.heygw44.strive.domain.user.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+        @NotBlank(message = "리프레시 토큰은 필수입니다")
+        String refreshToken
+) {
+}
@@ -1,7 +1,10 @@
 package io.heygw44.strive.domain.user.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
 public record SignupResponse(
-        Long id,
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
         String email,
         String nickname
 ) {
@@ -0,0 +1,12 @@
+package io.heygw44.strive.domain.user.dto;
+
+public record TokenResponse(
+        String accessToken,
+        String tokenType,
+        long expiresIn,
+        String refreshToken
+) {
+    public static TokenResponse bearer(String accessToken, long expiresIn, String refreshToken) {
+        return new TokenResponse(accessToken, "Bearer", expiresIn, refreshToken);
+    }
+}
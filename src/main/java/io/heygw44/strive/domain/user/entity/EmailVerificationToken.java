@@ -12,7 +12,9 @@ import java.util.UUID;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "email_verification_tokens")
+@Table(name = "email_verification_tokens", indexes = {
+    @Index(name = "idx_email_token_user", columnList = "user_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EmailVerificationToken {
@@ -0,0 +1,65 @@
+package io.heygw44.strive.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 (무상태 토큰 인증용)
+ * 원문은 클라이언트에만 전달하고 DB에는 해시만 저장한다.
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "idx_refresh_token_user", columnList = "user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken {
+
+    @Id
+    private String id;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private boolean revoked = false;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private RefreshToken(String tokenHash, Long userId, Duration ttl) {
+        this.id = UUID.randomUUID().toString();
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.expiresAt = LocalDateTime.now().plus(ttl);
+        this.revoked = false;
+    }
+
+    public static RefreshToken create(String tokenHash, Long userId, Duration ttl) {
+        return new RefreshToken(tokenHash, userId, ttl);
+    }
+
+    public boolean isValid() {
+        return !revoked && LocalDateTime.now().isBefore(expiresAt);
+    }
+
+    public void revoke() {
+        this.revoked = true;
+    }
+}
@@ -1,6 +1,7 @@
 package io.heygw44.strive.domain.user.entity;
 
 import io.heygw44.strive.global.entity.BaseTimeEntity;
+import io.heygw44.strive.global.entity.TsidId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -15,7 +16,7 @@ import java.util.List;
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(nullable = false, unique = true, length = 255)
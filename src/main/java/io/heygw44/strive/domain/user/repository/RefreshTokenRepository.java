@@ -0,0 +1,26 @@
+package io.heygw44.strive.domain.user.repository;
+
+import io.heygw44.strive.domain.user.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * 재사용이 감지된 경우 해당 사용자의 모든 리프레시 토큰 폐기
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken t set t.revoked = true where t.userId = :userId and t.revoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * 아직 폐기되지 않은 토큰만 폐기 (조건부 UPDATE)
+     * 같은 토큰으로 동시에 갱신하면 행 락으로 직렬화되어 먼저 커밋한 요청만 1을 받고 나머지는 0을 받는다.
+     * @return 폐기된 행 수 (0이면 이미 다른 요청이 폐기함)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update RefreshToken t set t.revoked = true where t.id = :id and t.revoked = false")
+    int revokeIfActive(@Param("id") String id);
+}
@@ -0,0 +1,11 @@
+package io.heygw44.strive.domain.user.repository;
+
+/**
+ * 사용자 ID/닉네임 프로젝션 (엔티티 전체 로딩 없이 닉네임만 조회)
+ */
+public interface UserNicknameView {
+
+    Long getId();
+
+    String getNickname();
+}
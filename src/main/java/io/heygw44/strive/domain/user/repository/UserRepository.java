@@ -1,8 +1,13 @@
 package io.heygw44.strive.domain.user.repository;
 
 import io.heygw44.strive.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -14,4 +19,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String nickname);
 
     boolean existsByNicknameAndIdNot(String nickname, Long id);
+
+    /**
+     * ID 목록으로 닉네임 배치 조회 (응답 조립용)
+     */
+    @Query("select u.id as id, u.nickname as nickname from User u where u.id in :ids")
+    List<UserNicknameView> findNicknamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 닉네임 인덱스 재구축용 키셋 페이지 조회 (id 오름차순)
+     */
+    @Query("select u.id as id, u.nickname as nickname from User u where u.id > :afterId order by u.id")
+    List<UserNicknameView> findNicknamesAfter(@Param("afterId") Long afterId, Limit limit);
 }
@@ -2,6 +2,7 @@ package io.heygw44.strive.domain.user.service;
 
 import io.heygw44.strive.domain.user.dto.LoginRequest;
 import io.heygw44.strive.domain.user.dto.LoginResponse;
+import io.heygw44.strive.domain.user.dto.NicknameAvailabilityResponse;
 import io.heygw44.strive.domain.user.dto.SignupRequest;
 import io.heygw44.strive.domain.user.dto.SignupResponse;
 import io.heygw44.strive.domain.user.entity.EmailVerificationToken;
@@ -12,10 +13,12 @@ import io.heygw44.strive.global.exception.BusinessException;
 import io.heygw44.strive.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
 import java.util.UUID;
 
 @Service
@@ -27,6 +30,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final EmailVerificationTokenRepository tokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final NicknameAvailabilityIndex nicknameIndex;
 
     @Transactional
     public SignupResponse signup(SignupRequest request) {
@@ -35,7 +39,15 @@ public class AuthService {
         String passwordHash = passwordEncoder.encode(request.password());
         User user = User.create(request.email(), passwordHash, request.nickname());
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            // 앱 생성 ID라 INSERT가 flush까지 미뤄지므로 제약 위반을 여기서 받기 위해 즉시 flush
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            // 인덱스가 놓친 닉네임(다른 노드 가입 등) 또는 동시 가입은 유니크 제약이 최종 판정
+            throw new BusinessException(resolveDuplicateError(ex, request.nickname()));
+        }
+        nicknameIndex.registerAfterCommit(savedUser.getNickname());
 
         return new SignupResponse(
                 savedUser.getId(),
@@ -53,11 +65,36 @@ public class AuthService {
             throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
         }
 
-        if (userRepository.existsByNickname(request.nickname())) {
+        // 인덱스에 없으면 DB 조회 생략 (있을 가능성이 있을 때만 확인)
+        if (nicknameIndex.mightBeTaken(request.nickname())
+                && userRepository.existsByNickname(request.nickname())) {
             throw new BusinessException(ErrorCode.DUPLICATE_NICKNAME);
         }
     }
 
+    /**
+     * 유니크 제약 위반 원인 판별 - 이메일은 직전에 DB로 확인했으므로 메시지에 email이 없으면 닉네임으로 본다
+     */
+    private ErrorCode resolveDuplicateError(DataIntegrityViolationException ex, String nickname) {
+        String message = ex.getMostSpecificCause().getMessage();
+        if (message != null && message.toLowerCase(Locale.ROOT).contains("email")) {
+            return ErrorCode.DUPLICATE_EMAIL;
+        }
+        nicknameIndex.register(nickname);
+        return ErrorCode.DUPLICATE_NICKNAME;
+    }
+
+    /**
+     * 닉네임 사용 가능 여부 (입력 중 실시간 확인용, 대부분 DB 조회 없이 응답)
+     * 참고용 응답이며, 사용 가능으로 응답한 닉네임도 가입 시 DUPLICATE_NICKNAME으로 거절될 수 있다.
+     */
+    public NicknameAvailabilityResponse checkNicknameAvailability(String nickname) {
+        if (nickname == null || nickname.isBlank() || nickname.length() < 2 || nickname.length() > 50) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+        }
+        return new NicknameAvailabilityResponse(nickname, nicknameIndex.isAvailable(nickname));
+    }
+
     public LoginResponse authenticate(LoginRequest request) {
         User user = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
@@ -0,0 +1,169 @@
+package io.heygw44.strive.domain.user.service;
+
+import io.heygw44.strive.domain.user.repository.UserNicknameView;
+import io.heygw44.strive.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용 중인 닉네임의 메모리 인덱스 (블룸 필터)
+ * 인덱스에 없으면 DB 조회 없이 사용 가능으로 판단하고, 있을 가능성이 있을 때만 DB로 확인한다.
+ * 다른 노드에서 가입/변경된 닉네임은 다음 재구축 전까지 인덱스에 없으므로 "사용 가능" 응답은 참고용이다.
+ * (재구축 주기만큼 뒤처질 수 있음 - "사용 중" 응답은 항상 DB로 확인한 값)
+ * 최종 판정은 users.nickname 유니크 제약이 담당하므로 인덱스가 뒤처져도 중복 가입은 발생하지 않는다
+ * (저장 시 제약 위반을 DUPLICATE_NICKNAME으로 매핑).
+ * DB 콜레이션과 무관하게 누락이 없도록 소문자로 정규화한 키를 저장한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(NicknameIndexProperties.class)
+public class NicknameAvailabilityIndex {
+
+    private static final String METRIC_LOOKUPS = "strive.nickname.index.lookups";
+
+    private final UserRepository userRepository;
+    private final NicknameIndexProperties properties;
+
+    /** 최초 로딩 전에는 null - 이 동안은 항상 DB로 확인 */
+    private volatile BloomFilter filter;
+    /** 재구축 중인 필터 - 재구축 도중의 등록도 반영되도록 함께 기록 */
+    private volatile BloomFilter building;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong indexedCount = new AtomicLong();
+
+    private final Counter negativeLookups;
+    private final Counter confirmedLookups;
+    private final Counter falsePositiveLookups;
+
+    public NicknameAvailabilityIndex(UserRepository userRepository,
+                                     NicknameIndexProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.negativeLookups = lookupCounter(meterRegistry, "negative");
+        this.confirmedLookups = lookupCounter(meterRegistry, "taken");
+        this.falsePositiveLookups = lookupCounter(meterRegistry, "false_positive");
+    }
+
+    /**
+     * 인덱스 기준으로 사용 중일 가능성이 있는지 확인 (false이면 확실히 사용 가능)
+     */
+    public boolean mightBeTaken(String nickname) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(normalize(nickname));
+    }
+
+    /**
+     * 닉네임 사용 가능 여부 (인덱스 미스는 DB 조회 없이 응답, 히트 시에만 DB 확인)
+     * true는 참고용 - 마지막 재구축 이후 다른 노드에서 등록된 닉네임일 수 있다.
+     */
+    public boolean isAvailable(String nickname) {
+        if (!mightBeTaken(nickname)) {
+            negativeLookups.increment();
+            return true;
+        }
+        boolean taken = userRepository.existsByNickname(nickname);
+        (taken ? confirmedLookups : falsePositiveLookups).increment();
+        return !taken;
+    }
+
+    /**
+     * 닉네임 등록 - 트랜잭션 안이면 커밋 이후에 반영 (롤백된 가입이 인덱스를 오염시키지 않도록)
+     */
+    public void registerAfterCommit(String nickname) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    register(nickname);
+                }
+            });
+        } else {
+            register(nickname);
+        }
+    }
+
+    /**
+     * 닉네임 즉시 등록 (유니크 제약 위반으로 사용 중임이 확인된 경우 등)
+     */
+    public void register(String nickname) {
+        String key = normalize(nickname);
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(key);
+        }
+        indexedCount.incrementAndGet();
+    }
+
+    /**
+     * 전체 닉네임으로 인덱스 재구축
+     * 블룸 필터는 삭제를 지원하지 않으므로 변경 전 닉네임은 재구축 시점에 정리된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${strive.nickname-index.rebuild-interval:PT5M}",
+            fixedDelayString = "${strive.nickname-index.rebuild-interval:PT5M}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            long capacity = Math.max(properties.expectedInsertions(), indexedCount.get() * 2);
+            BloomFilter next = BloomFilter.create(capacity, properties.falsePositiveRate());
+            building = next;
+
+            long loaded = 0;
+            long lastId = 0L;
+            Limit batch = Limit.of(properties.loadBatchSize());
+            List<UserNicknameView> page;
+            do {
+                page = userRepository.findNicknamesAfter(lastId, batch);
+                for (UserNicknameView view : page) {
+                    next.put(normalize(view.getNickname()));
+                    lastId = view.getId();
+                }
+                loaded += page.size();
+            } while (page.size() == properties.loadBatchSize());
+
+            filter = next;
+            indexedCount.set(loaded);
+            log.info("닉네임 인덱스 재구축 완료: nicknames={}, bits={}, elapsedMs={}",
+                    loaded, next.bitSize(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            // 실패 시 기존 인덱스(또는 DB 확인 모드)를 유지
+            log.warn("닉네임 인덱스 재구축 실패 - 기존 인덱스 유지", e);
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    private static String normalize(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder(METRIC_LOOKUPS)
+                .description("닉네임 가용성 인덱스 조회 결과 (negative는 DB 조회 없음)")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,167 @@
+package io.heygw44.strive.domain.user.service;
+
+import io.heygw44.strive.domain.user.repository.UserNicknameView;
+import io.heygw44.strive.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 ID → 닉네임 로컬 캐시
+ * 닉네임은 거의 모든 모임/참여 응답에 포함되지만 프로필 수정 때만 바뀌므로,
+ * 캐시에 없는 ID만 모아 한 번의 쿼리로 읽고 TTL 동안 보관한다.
+ * 프로필 수정 시 즉시 + 트랜잭션 종료 후 한 번 더 제거하여, 커밋 전에 다른 요청이 옛 값을 다시 채우는 경우도 정리한다.
+ */
+@Component
+@EnableConfigurationProperties(NicknameCacheProperties.class)
+public class NicknameCache {
+
+    private final UserRepository userRepository;
+    private final NicknameCacheProperties properties;
+    private final Clock clock;
+
+    private final ConcurrentMap<Long, Entry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @Autowired
+    public NicknameCache(UserRepository userRepository, NicknameCacheProperties properties,
+                         MeterRegistry meterRegistry) {
+        this(userRepository, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    NicknameCache(UserRepository userRepository, NicknameCacheProperties properties,
+                  MeterRegistry meterRegistry, Clock clock) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.clock = clock;
+
+        FunctionCounter.builder("strive.nickname.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("strive.nickname.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("strive.nickname.cache.hit.ratio", this, NicknameCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("strive.nickname.cache.size", cache, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 닉네임 배치 조회 (캐시 미스 ID만 한 번의 쿼리로 로드, 존재하지 않는 사용자는 결과에서 제외)
+     */
+    public Map<Long, String> getNicknames(Collection<Long> userIds) {
+        if (!properties.enabled()) {
+            return load(userIds);
+        }
+        Instant now = clock.instant();
+        Map<Long, String> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : userIds) {
+            Entry entry = cache.get(userId);
+            if (entry != null && !entry.isStale(now, properties.ttl())) {
+                result.put(userId, entry.nickname());
+            } else {
+                missing.add(userId);
+            }
+        }
+        hits.addAndGet(result.size());
+        misses.addAndGet(missing.size());
+
+        if (!missing.isEmpty()) {
+            Map<Long, String> loaded = load(missing);
+            loaded.forEach((userId, nickname) -> put(userId, nickname, now));
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    /**
+     * 닉네임 변경 시 호출 - 즉시 제거하고 트랜잭션 종료(커밋/롤백) 후 다시 제거
+     */
+    public void invalidate(Long userId) {
+        cache.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.remove(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * TTL이 지난 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${strive.nickname-cache.ttl:PT10M}")
+    public void purgeStaleEntries() {
+        Instant now = clock.instant();
+        cache.values().removeIf(entry -> entry.isStale(now, properties.ttl()));
+    }
+
+    private Map<Long, String> load(Collection<Long> userIds) {
+        Map<Long, String> loaded = new HashMap<>();
+        for (UserNicknameView view : userRepository.findNicknamesByIdIn(userIds)) {
+            loaded.put(view.getId(), view.getNickname());
+        }
+        return loaded;
+    }
+
+    private void put(Long userId, String nickname, Instant now) {
+        ensureCapacity();
+        cache.put(userId, new Entry(nickname, now));
+    }
+
+    private void ensureCapacity() {
+        if (cache.size() < properties.maxEntries()) {
+            return;
+        }
+
+        purgeStaleEntries();
+        if (cache.size() < properties.maxEntries()) {
+            return;
+        }
+
+        // 유효 항목으로 가득 차면 캐싱을 멈추지 않고 가장 오래 전에 적재된 항목부터 1% 단위로 묶어서 제거
+        int batchSize = Math.max(1, properties.maxEntries() / 100);
+        cache.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.comparing(Entry::loadedAt)))
+                .limit(batchSize)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(cache::remove);
+    }
+
+    private double hitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private record Entry(String nickname, Instant loadedAt) {
+        boolean isStale(Instant now, Duration ttl) {
+            return loadedAt.plus(ttl).isBefore(now);
+        }
+    }
+}
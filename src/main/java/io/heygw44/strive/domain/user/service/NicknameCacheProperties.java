@@ -0,0 +1,20 @@
+package io.heygw44.strive.domain.user.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 사용자 닉네임 캐시 설정
+ * @param enabled    캐시 사용 여부 (비활성 시 매번 DB 조회)
+ * @param maxEntries 캐시 항목 상한 (초과 시 만료 항목 정리 후에도 가득 차면 가장 오래 전에 적재된 항목부터 제거)
+ * @param ttl        항목 유효 시간 - 다른 노드에서 변경된 닉네임은 최대 이 시간만큼 늦게 반영
+ */
+@ConfigurationProperties(prefix = "strive.nickname-cache")
+public record NicknameCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxEntries,
+        @DefaultValue("10m") Duration ttl
+) {
+}
@@ -0,0 +1,23 @@
+package io.heygw44.strive.domain.user.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 닉네임 가용성 인덱스 설정
+ * @param expectedInsertions 블룸 필터 초기 용량 (실제 사용자 수가 더 많으면 재구축 시 2배로 확장)
+ * @param falsePositiveRate  목표 오탐률 - 오탐 시에만 DB로 확인
+ * @param loadBatchSize      재구축 시 한 번에 읽을 사용자 수
+ * @param rebuildInterval    재구축 주기 (변경 전 닉네임 제거 및 다른 노드의 가입 반영)
+ *                           - "사용 가능" 응답이 다른 노드 기준으로 뒤처질 수 있는 최대 시간
+ */
+@ConfigurationProperties(prefix = "strive.nickname-index")
+public record NicknameIndexProperties(
+        @DefaultValue("1000000") long expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("10000") int loadBatchSize,
+        @DefaultValue("5m") Duration rebuildInterval
+) {
+}
@@ -7,6 +7,7 @@ import io.heygw44.strive.domain.user.repository.UserRepository;
 import io.heygw44.strive.global.exception.BusinessException;
 import io.heygw44.strive.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProfileService {
 
     private final UserRepository userRepository;
+    private final NicknameAvailabilityIndex nicknameIndex;
+    private final NicknameCache nicknameCache;
 
     public ProfileResponse getMyProfile(Long userId) {
         User user = userRepository.findById(userId)
@@ -29,8 +32,9 @@ public class ProfileService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
 
-        // 닉네임 변경 시 중복 검증
-        if (request.nickname() != null && !request.nickname().equals(user.getNickname())) {
+        // 닉네임 변경 시 중복 검증 (인덱스에 있을 가능성이 있을 때만 DB 확인)
+        boolean nicknameChanged = request.nickname() != null && !request.nickname().equals(user.getNickname());
+        if (nicknameChanged && nicknameIndex.mightBeTaken(request.nickname())) {
             if (userRepository.existsByNicknameAndIdNot(request.nickname(), userId)) {
                 throw new BusinessException(ErrorCode.DUPLICATE_NICKNAME);
             }
@@ -44,6 +48,18 @@ public class ProfileService {
                 request.experienceLevel()
         );
 
+        if (nicknameChanged) {
+            // 제약 위반을 커밋 시점이 아닌 여기서 감지해 DUPLICATE_NICKNAME으로 응답
+            try {
+                userRepository.flush();
+            } catch (DataIntegrityViolationException ex) {
+                nicknameIndex.register(request.nickname());
+                throw new BusinessException(ErrorCode.DUPLICATE_NICKNAME);
+            }
+            nicknameIndex.registerAfterCommit(request.nickname());
+            nicknameCache.invalidate(userId);
+        }
+
         return ProfileResponse.from(user);
     }
 }
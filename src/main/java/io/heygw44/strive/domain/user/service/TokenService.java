@@ -0,0 +1,147 @@
+package io.heygw44.strive.domain.user.service;
+
+import io.heygw44.strive.domain.user.dto.LoginRequest;
+import io.heygw44.strive.domain.user.dto.LoginResponse;
+import io.heygw44.strive.domain.user.dto.TokenResponse;
+import io.heygw44.strive.domain.user.entity.RefreshToken;
+import io.heygw44.strive.domain.user.entity.User;
+import io.heygw44.strive.domain.user.repository.RefreshTokenRepository;
+import io.heygw44.strive.domain.user.repository.UserRepository;
+import io.heygw44.strive.global.exception.BusinessException;
+import io.heygw44.strive.global.exception.ErrorCode;
+import io.heygw44.strive.global.security.AccessTokenProvider;
+import io.heygw44.strive.global.security.TokenProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * 무상태 토큰 발급/갱신/폐기 서비스 (모바일 클라이언트용)
+ * 리프레시 토큰 형식: "{tokenId}.{rawToken}" - DB에는 rawToken의 SHA-256 해시만 저장
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "strive.security.token", name = "enabled", havingValue = "true")
+@Slf4j
+public class TokenService {
+
+    private static final String TOKEN_SEPARATOR = ".";
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final AuthService authService;
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AccessTokenProvider accessTokenProvider;
+    private final TokenProperties tokenProperties;
+
+    /**
+     * 로그인 후 액세스/리프레시 토큰 발급
+     */
+    @Transactional
+    public TokenResponse issueTokens(LoginRequest request) {
+        LoginResponse login = authService.authenticate(request);
+        return issue(login.id(), login.email(), login.isVerified());
+    }
+
+    /**
+     * 리프레시 토큰 교체 발급 (기존 토큰은 폐기)
+     * 이미 폐기된 토큰이 다시 사용되면 탈취로 보고 해당 사용자의 토큰을 모두 폐기한다.
+     * 폐기는 조건부 UPDATE로 수행해, 같은 토큰으로 동시에 들어온 갱신 중 하나만 새 토큰을 받고
+     * 나머지는 재사용으로 처리한다. (조회 후 엔티티 변경 방식은 두 요청이 모두 미폐기 상태를 읽어 둘 다 발급됨)
+     */
+    @Transactional(noRollbackFor = BusinessException.class)
+    public TokenResponse refresh(String refreshToken) {
+        RefreshToken stored = findMatchingToken(refreshToken);
+        Long userId = stored.getUserId();
+
+        if (stored.isRevoked()) {
+            throw reuseDetected(userId);
+        }
+        if (!stored.isValid()) {
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+        if (refreshTokenRepository.revokeIfActive(stored.getId()) == 0) {
+            throw reuseDetected(userId);
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID));
+        return issue(user.getId(), user.getEmail(), user.isVerified());
+    }
+
+    /**
+     * 리프레시 토큰 폐기 (로그아웃)
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        RefreshToken stored = findMatchingToken(refreshToken);
+        stored.revoke();
+    }
+
+    private BusinessException reuseDetected(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId);
+        log.warn("폐기된 리프레시 토큰 재사용 감지 - userId={}, revoked={}", userId, revoked);
+        return new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
+    }
+
+    private TokenResponse issue(Long userId, String email, boolean verified) {
+        String accessToken = accessTokenProvider.issue(userId, email, verified);
+
+        String rawToken = generateRawToken();
+        RefreshToken refreshToken = refreshTokenRepository.save(
+                RefreshToken.create(hash(rawToken), userId, tokenProperties.refreshTokenTtl()));
+
+        return TokenResponse.bearer(
+                accessToken,
+                accessTokenProvider.getAccessTokenTtl().toSeconds(),
+                refreshToken.getId() + TOKEN_SEPARATOR + rawToken
+        );
+    }
+
+    private RefreshToken findMatchingToken(String refreshToken) {
+        int separator = refreshToken.indexOf(TOKEN_SEPARATOR);
+        if (separator <= 0 || separator == refreshToken.length() - 1) {
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+
+        String tokenId = refreshToken.substring(0, separator);
+        String rawToken = refreshToken.substring(separator + 1);
+
+        RefreshToken stored = refreshTokenRepository.findById(tokenId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID));
+
+        boolean matches = MessageDigest.isEqual(
+                hash(rawToken).getBytes(StandardCharsets.US_ASCII),
+                stored.getTokenHash().getBytes(StandardCharsets.US_ASCII));
+        if (!matches) {
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+        return stored;
+    }
+
+    private String generateRawToken() {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
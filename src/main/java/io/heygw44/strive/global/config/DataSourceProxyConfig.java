@@ -0,0 +1,42 @@
+package io.heygw44.strive.global.config;
+
+import io.heygw44.strive.global.sql.SqlBudgetProperties;
+import io.heygw44.strive.global.sql.SqlStatementCountingListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 주 데이터소스를 datasource-proxy로 감싸 실행된 SQL 문을 요청별로 집계
+ */
+@Configuration
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+public class DataSourceProxyConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * BeanPostProcessor는 다른 빈보다 먼저 생성되어야 하므로 static으로 선언
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "strive.sql.budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(DATA_SOURCE_BEAN)
+                            .listener(new SqlStatementCountingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
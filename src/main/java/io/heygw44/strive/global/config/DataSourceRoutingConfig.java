@@ -0,0 +1,104 @@
+package io.heygw44.strive.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.heygw44.strive.global.datasource.DataSourceRoutingProperties;
+import io.heygw44.strive.global.datasource.ReadYourWritesTracker;
+import io.heygw44.strive.global.datasource.ReplicaRoutingDataSource;
+import io.heygw44.strive.global.datasource.WriteRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * 작업 유형별 커넥션 풀 분리 (strive.datasource.routing.enabled=true)
+ * - write: 일반 쓰기 트랜잭션과 트랜잭션 밖 접근(Flyway/세션 저장소 등), spring.datasource(.hikari) 설정
+ * - locking: {@link io.heygw44.strive.global.datasource.LockingWrite} 작업 (비관적 락 대기로 커넥션을 오래 점유)
+ * - read: 읽기 전용 트랜잭션, 복제본 URL이 있으면 복제본, 없으면 주 DB에 별도 풀
+ * 주 데이터소스(dataSource)는 LazyConnectionDataSourceProxy로, 첫 SQL 실행 시점에 트랜잭션의 읽기 전용 여부와
+ * 작업 표시에 따라 풀을 고른다. 풀별 커넥션 획득 시간은 hikari.connections.acquire{pool} 지표로 노출된다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "strive.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("write");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource lockingDataSource(DataSourceProperties dataSourceProperties,
+                                              DataSourceRoutingProperties properties) {
+        DataSourceRoutingProperties.Locking locking = properties.locking();
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("locking");
+        dataSource.setMaximumPoolSize(locking.maximumPoolSize());
+        dataSource.setConnectionTimeout(locking.connectionTimeout().toMillis());
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource readDataSource(DataSourceProperties dataSourceProperties,
+                                           DataSourceRoutingProperties properties) {
+        DataSourceRoutingProperties.Read read = properties.read();
+        DataSourceBuilder<HikariDataSource> builder = hasReplica(properties)
+                ? DataSourceBuilder.create()
+                        .type(HikariDataSource.class)
+                        .url(read.url())
+                        .username(read.username())
+                        .password(read.password())
+                        .driverClassName(read.driverClassName())
+                : dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class);
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("read");
+        dataSource.setMaximumPoolSize(read.maximumPoolSize());
+        dataSource.setConnectionTimeout(read.connectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.readYourWritesWindow(), properties.maxTrackedUsers());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource write,
+                                 @Qualifier("lockingDataSource") DataSource locking,
+                                 @Qualifier("readDataSource") DataSource read,
+                                 DataSourceRoutingProperties properties,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(new WriteRoutingDataSource(write, locking));
+        // 복제본이 없으면 읽기 풀도 주 DB라 복제 지연 보정/장애 대체가 필요 없다
+        dataSource.setReadOnlyDataSource(hasReplica(properties)
+                ? new ReplicaRoutingDataSource(write, read, readYourWritesTracker, meterRegistry)
+                : read);
+        return dataSource;
+    }
+
+    private static boolean hasReplica(DataSourceRoutingProperties properties) {
+        return StringUtils.hasText(properties.read().url());
+    }
+}
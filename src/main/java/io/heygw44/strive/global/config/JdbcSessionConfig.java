@@ -0,0 +1,90 @@
+package io.heygw44.strive.global.config;
+
+import io.heygw44.strive.global.session.CoalescingSessionRepository;
+import io.heygw44.strive.global.session.JdbcSessionStoreProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.session.JdbcSessionProperties;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.server.Cookie;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.config.annotation.web.http.SpringHttpSessionConfiguration;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
+import org.springframework.session.web.http.CookieSerializer;
+import org.springframework.session.web.http.DefaultCookieSerializer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * DB 기반 공유 세션 저장소 설정 (strive.session.store=jdbc)
+ * 세션과 동시 세션 제어 상태를 DB에 두어 스티키 세션 없이 여러 노드로 확장할 수 있게 한다.
+ * 기본값(memory)에서는 서블릿 컨테이너 세션과 BoundedSessionRegistry를 그대로 사용한다.
+ * 세션 테이블은 Flyway 마이그레이션(V3__refresh_tokens_and_sessions.sql)이 만든다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "strive.session", name = "store", havingValue = "jdbc")
+@EnableConfigurationProperties({JdbcSessionStoreProperties.class, JdbcSessionProperties.class})
+@Import(SpringHttpSessionConfiguration.class)
+public class JdbcSessionConfig {
+
+    @Bean
+    public JdbcIndexedSessionRepository jdbcIndexedSessionRepository(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            JdbcSessionProperties jdbcSessionProperties,
+            @Value("${server.servlet.session.timeout:30m}") Duration sessionTimeout) {
+        JdbcIndexedSessionRepository repository =
+                new JdbcIndexedSessionRepository(jdbcTemplate, new TransactionTemplate(transactionManager));
+        repository.setTableName(jdbcSessionProperties.getTableName());
+        repository.setDefaultMaxInactiveInterval(sessionTimeout);
+        repository.setFlushMode(jdbcSessionProperties.getFlushMode());
+        repository.setSaveMode(jdbcSessionProperties.getSaveMode());
+        repository.setCleanupCron(jdbcSessionProperties.getCleanupCron());
+        return repository;
+    }
+
+    // JdbcSession 타입이 패키지 비공개라 raw 타입으로 감쌈
+    @Bean
+    @Primary
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public CoalescingSessionRepository<?> sessionRepository(
+            JdbcIndexedSessionRepository jdbcIndexedSessionRepository,
+            JdbcSessionStoreProperties properties) {
+        return new CoalescingSessionRepository((FindByIndexNameSessionRepository) jdbcIndexedSessionRepository, properties);
+    }
+
+    /**
+     * 클러스터 전체 기준 동시 세션 제어 (principal 인덱스로 모든 노드의 세션 조회)
+     */
+    @Bean
+    public SessionRegistry sessionRegistry(CoalescingSessionRepository<?> sessionRepository) {
+        return new SpringSessionBackedSessionRegistry<>(sessionRepository);
+    }
+
+    /**
+     * 기존 컨테이너 세션과 동일한 쿠키 정책 유지 (AuthController 로그아웃이 JSESSIONID를 만료시킴)
+     */
+    @Bean
+    public CookieSerializer cookieSerializer(ServerProperties serverProperties) {
+        Cookie cookie = serverProperties.getServlet().getSession().getCookie();
+        DefaultCookieSerializer serializer = new DefaultCookieSerializer();
+        serializer.setCookieName("JSESSIONID");
+        serializer.setCookiePath("/");
+        serializer.setUseHttpOnlyCookie(!Boolean.FALSE.equals(cookie.getHttpOnly()));
+        serializer.setUseSecureCookie(!Boolean.FALSE.equals(cookie.getSecure()));
+        if (cookie.getSameSite() != null) {
+            serializer.setSameSite(cookie.getSameSite().attributeValue());
+        }
+        return serializer;
+    }
+}
@@ -0,0 +1,22 @@
+package io.heygw44.strive.global.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정
+ * 엔드포인트: /actuator/metrics, /actuator/prometheus (운영은 별도 관리 포트)
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 개별 메서드에 @Timed 사용 가능하도록 활성화
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
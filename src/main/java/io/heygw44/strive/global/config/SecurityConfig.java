@@ -1,36 +1,120 @@
 package io.heygw44.strive.global.config;
 
+import io.heygw44.strive.global.ratelimit.RateLimitProperties;
+import io.heygw44.strive.global.security.AccessTokenAuthenticationConverter;
+import io.heygw44.strive.global.security.BoundedSessionRegistry;
 import io.heygw44.strive.global.security.CustomUserDetailsService;
+import io.heygw44.strive.global.security.SessionRegistryProperties;
+import io.heygw44.strive.global.security.TokenProperties;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.web.authentication.session.*;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.security.core.session.SessionRegistry;
-import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.session.HttpSessionEventPublisher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import java.util.List;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties({SessionRegistryProperties.class, TokenProperties.class, RateLimitProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final CustomUserDetailsService userDetailsService;
 
+    /**
+     * 무상태 토큰 체인 (strive.security.token.enabled=true)
+     * 토큰 발급 API와 Bearer 헤더가 있는 요청만 처리하며, 세션 조회/CSRF 검증을 거치지 않는다.
+     */
+    @Bean
+    @Order(1)
+    @ConditionalOnProperty(prefix = "strive.security.token", name = "enabled", havingValue = "true")
+    public SecurityFilterChain tokenFilterChain(HttpSecurity http,
+                                                JwtDecoder jwtDecoder,
+                                                AccessTokenAuthenticationConverter authenticationConverter) throws Exception {
+        RequestMatcher tokenRequests = new OrRequestMatcher(
+                PathPatternRequestMatcher.withDefaults().matcher("/api/auth/token/**"),
+                SecurityConfig::hasBearerToken
+        );
+
+        return http
+                .securityMatcher(tokenRequests)
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .oauth2ResourceServer(oauth2 -> oauth2
+                        .jwt(jwt -> jwt
+                                .decoder(jwtDecoder)
+                                .jwtAuthenticationConverter(authenticationConverter)
+                        )
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                )
+                .authorizeHttpRequests(this::authorizeRequests)
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                )
+                .build();
+    }
+
+    /**
+     * 공개 조회 전용 경량 체인 (GET /api/meetups, GET /api/meetups/{id})
+     * 익명 조회에는 세션 조회/생성, CSRF 토큰 처리, 동시 세션 검사가 필요 없으므로 생략한다.
+     * Bearer 요청은 토큰 체인이 먼저 처리한다.
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain publicReadFilterChain(HttpSecurity http) throws Exception {
+        PathPatternRequestMatcher.Builder matcher = PathPatternRequestMatcher.withDefaults();
+        RequestMatcher publicReads = new OrRequestMatcher(
+                matcher.matcher(HttpMethod.GET, "/api/meetups"),
+                matcher.matcher(HttpMethod.GET, "/api/meetups/*")
+        );
+
+        return http
+                .securityMatcher(publicReads)
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .securityContext(securityContext -> securityContext
+                        .securityContextRepository(new RequestAttributeSecurityContextRepository())
+                )
+                .requestCache(requestCache -> requestCache.disable())
+                .logout(logout -> logout.disable())
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         CsrfTokenRequestAttributeHandler requestHandler = new CsrfTokenRequestAttributeHandler();
@@ -49,26 +133,7 @@ public class SecurityConfig {
                 .securityContext(securityContext -> securityContext
                         .securityContextRepository(securityContextRepository())
                 )
-                .authorizeHttpRequests(auth -> auth
-                        // 공개 엔드포인트
-                        .requestMatchers("/api/auth/signup", "/api/auth/login").permitAll()
-                        // 참여 조회는 인증 필요 (주최자/참여자)
-                        .requestMatchers(HttpMethod.GET, "/api/meetups/*/participations").authenticated()
-                        .requestMatchers(HttpMethod.GET, "/api/meetups/*/participations/me").authenticated()
-                        // 모임 목록/상세 조회는 공개
-                        .requestMatchers(HttpMethod.GET, "/api/meetups", "/api/meetups/*").permitAll()
-                        // 인증 필요 엔드포인트
-                        .requestMatchers("/api/me", "/api/me/**").authenticated()
-                        .requestMatchers("/api/auth/logout").authenticated()
-                        .requestMatchers("/api/auth/verify-email/**").authenticated()
-                        .requestMatchers(HttpMethod.POST, "/api/meetups", "/api/meetups/**").authenticated()
-                        .requestMatchers(HttpMethod.PUT, "/api/meetups/**").authenticated()
-                        .requestMatchers(HttpMethod.PATCH, "/api/meetups/**").authenticated()
-                        .requestMatchers(HttpMethod.DELETE, "/api/meetups/**").authenticated()
-                        // 참여 API는 /api/meetups/{id}/participations/** 경로 사용
-                        // POST/PATCH/DELETE는 위 설정으로 커버됨
-                        .anyRequest().permitAll()
-                )
+                .authorizeHttpRequests(this::authorizeRequests)
                 .exceptionHandling(exception -> exception
                         .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
                 )
@@ -76,6 +141,39 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * 세션 체인과 토큰 체인이 공유하는 인가 규칙
+     */
+    private void authorizeRequests(
+            AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth) {
+        auth
+                // 공개 엔드포인트
+                .requestMatchers("/api/auth/signup", "/api/auth/login").permitAll()
+                .requestMatchers("/api/auth/token", "/api/auth/token/**").permitAll()
+                // 참여 조회는 인증 필요 (주최자/참여자)
+                .requestMatchers(HttpMethod.GET, "/api/meetups/*/participations").authenticated()
+                .requestMatchers(HttpMethod.GET, "/api/meetups/*/participations/me").authenticated()
+                // 모임 목록/상세 조회는 공개
+                .requestMatchers(HttpMethod.GET, "/api/meetups", "/api/meetups/*").permitAll()
+                // 인증 필요 엔드포인트
+                .requestMatchers("/api/me", "/api/me/**").authenticated()
+                .requestMatchers("/api/auth/logout").authenticated()
+                .requestMatchers("/api/auth/verify-email/**").authenticated()
+                .requestMatchers(HttpMethod.POST, "/api/meetups", "/api/meetups/**").authenticated()
+                .requestMatchers(HttpMethod.PUT, "/api/meetups/**").authenticated()
+                .requestMatchers(HttpMethod.PATCH, "/api/meetups/**").authenticated()
+                .requestMatchers(HttpMethod.DELETE, "/api/meetups/**").authenticated()
+                // 참여 API는 /api/meetups/{id}/participations/** 경로 사용
+                // POST/PATCH/DELETE는 위 설정으로 커버됨
+                .anyRequest().permitAll();
+    }
+
+    private static boolean hasBearerToken(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return authorization != null
+                && authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length());
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder(12);
@@ -91,9 +189,22 @@ public class SecurityConfig {
         return new HttpSessionSecurityContextRepository();
     }
 
+    /**
+     * 메모리 세션 모드 전용 (strive.session.store=jdbc 이면 JdbcSessionConfig의 레지스트리 사용)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "strive.session", name = "store", havingValue = "memory", matchIfMissing = true)
+    public BoundedSessionRegistry sessionRegistry(SessionRegistryProperties properties) {
+        return new BoundedSessionRegistry(properties.maxEntries(), properties.idleTimeout());
+    }
+
+    /**
+     * 서블릿 세션 생성/파기 이벤트를 Spring 이벤트로 발행하여 세션 레지스트리에서 파기된 세션을 제거
+     */
     @Bean
-    public SessionRegistry sessionRegistry() {
-        return new SessionRegistryImpl();
+    @ConditionalOnProperty(prefix = "strive.session", name = "store", havingValue = "memory", matchIfMissing = true)
+    public HttpSessionEventPublisher httpSessionEventPublisher() {
+        return new HttpSessionEventPublisher();
     }
 
     @Bean
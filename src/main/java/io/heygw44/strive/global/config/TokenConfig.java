@@ -0,0 +1,66 @@
+package io.heygw44.strive.global.config;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.heygw44.strive.global.security.AccessTokenAuthenticationConverter;
+import io.heygw44.strive.global.security.AccessTokenProvider;
+import io.heygw44.strive.global.security.TokenProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Clock;
+import java.util.Base64;
+
+/**
+ * 무상태 토큰 인증 설정 (strive.security.token.enabled=true)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "strive.security.token", name = "enabled", havingValue = "true")
+public class TokenConfig {
+
+    private static final int MIN_SECRET_BYTES = 32;
+
+    @Bean
+    public SecretKey accessTokenSecretKey(TokenProperties properties) {
+        if (properties.secret() == null || properties.secret().isBlank()) {
+            throw new IllegalStateException("strive.security.token.secret must be set when token auth is enabled");
+        }
+        byte[] keyBytes = Base64.getDecoder().decode(properties.secret());
+        if (keyBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("strive.security.token.secret must be at least 32 bytes");
+        }
+        return new SecretKeySpec(keyBytes, "HmacSHA256");
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(SecretKey accessTokenSecretKey) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(accessTokenSecretKey));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(SecretKey accessTokenSecretKey, TokenProperties properties) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(accessTokenSecretKey)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(properties.issuer()));
+        return decoder;
+    }
+
+    @Bean
+    public AccessTokenProvider accessTokenProvider(JwtEncoder jwtEncoder, TokenProperties properties) {
+        return new AccessTokenProvider(jwtEncoder, properties, Clock.systemUTC());
+    }
+
+    @Bean
+    public AccessTokenAuthenticationConverter accessTokenAuthenticationConverter() {
+        return new AccessTokenAuthenticationConverter();
+    }
+}
@@ -0,0 +1,50 @@
+package io.heygw44.strive.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 작업 유형별 커넥션 풀 분리 설정
+ * 쓰기 풀은 spring.datasource(.hikari) 설정을 그대로 쓰고, 락 쓰기/읽기 풀은 여기서 크기와 대기 시간을 정한다.
+ * @param enabled               풀 분리 사용 여부 (비활성 시 spring.datasource 단일 풀)
+ * @param read                  읽기 전용 트랜잭션 풀 (url 지정 시 복제본, 미지정 시 주 DB에 별도 풀)
+ * @param locking               비관적 락을 잡는 쓰기(@LockingWrite) 풀
+ * @param readYourWritesWindow  쓰기 커밋 후 같은 사용자의 읽기를 주 DB로 보내는 시간 (복제 지연 상한보다 길게)
+ * @param maxTrackedUsers       최근 쓰기 사용자 추적 상한 (초과 시 모든 읽기를 주 DB로 보냄)
+ */
+@ConfigurationProperties(prefix = "strive.datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue Read read,
+        @DefaultValue Locking locking,
+        @DefaultValue("2s") Duration readYourWritesWindow,
+        @DefaultValue("100000") int maxTrackedUsers
+) {
+
+    /**
+     * @param url               복제본 JDBC URL (비어 있으면 주 DB 접속 정보 사용)
+     * @param maximumPoolSize   읽기 풀 크기
+     * @param connectionTimeout 커넥션 획득 대기 상한
+     */
+    public record Read(
+            String url,
+            String username,
+            String password,
+            String driverClassName,
+            @DefaultValue("10") int maximumPoolSize,
+            @DefaultValue("5s") Duration connectionTimeout
+    ) {
+    }
+
+    /**
+     * @param maximumPoolSize   락 쓰기 풀 크기 (락 대기 중인 트랜잭션이 점유할 수 있는 커넥션 상한)
+     * @param connectionTimeout 커넥션 획득 대기 상한 (락 타임아웃 뒤에 줄 서지 않도록 짧게)
+     */
+    public record Locking(
+            @DefaultValue("5") int maximumPoolSize,
+            @DefaultValue("1s") Duration connectionTimeout
+    ) {
+    }
+}
@@ -0,0 +1,51 @@
+package io.heygw44.strive.global.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link LockingWrite} 메서드 실행 동안 현재 스레드를 락 쓰기 작업으로 표시하고 대상 모임 ID를 보관
+ * 커넥션은 첫 SQL 실행 시점에 지연 획득되므로 트랜잭션 인터셉터와의 순서와 무관하게 표시가 먼저 적용된다.
+ */
+@Aspect
+@Component
+public class LockingWorkloadAspect {
+
+    private static final ThreadLocal<LockScope> CURRENT = new ThreadLocal<>();
+
+    @Around("@annotation(io.heygw44.strive.global.datasource.LockingWrite)")
+    public Object markLocking(ProceedingJoinPoint joinPoint) throws Throwable {
+        LockScope previous = CURRENT.get();
+        CURRENT.set(new LockScope(meetupIdOf(joinPoint.getArgs())));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    static boolean isLockingWorkload() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 현재 락 쓰기 작업의 대상 모임 ID (락 쓰기 작업 밖이거나 첫 인자가 Long이 아니면 null)
+     */
+    public static Long currentMeetupId() {
+        LockScope scope = CURRENT.get();
+        return scope != null ? scope.meetupId() : null;
+    }
+
+    private static Long meetupIdOf(Object[] args) {
+        return args.length > 0 && args[0] instanceof Long meetupId ? meetupId : null;
+    }
+
+    private record LockScope(Long meetupId) {
+    }
+}
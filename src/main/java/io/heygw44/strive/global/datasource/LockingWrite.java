@@ -0,0 +1,17 @@
+package io.heygw44.strive.global.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 비관적 락(SELECT ... FOR UPDATE)을 잡는 쓰기 작업 표시
+ * 풀 분리가 켜져 있으면 이 메서드 안에서 처음 획득하는 커넥션을 락 쓰기 전용 풀에서 가져온다.
+ * 인기 모임에 락 대기가 몰려도 일반 쓰기/읽기 풀은 영향을 받지 않게 하기 위함이다.
+ * 첫 번째 인자는 락 대상 모임 ID여야 한다 (모임별 락 대기 집계 키).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LockingWrite {
+}
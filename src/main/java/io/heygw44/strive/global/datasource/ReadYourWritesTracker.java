@@ -0,0 +1,194 @@
+package io.heygw44.strive.global.datasource;
+
+import io.heygw44.strive.global.security.CustomUserDetails;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 쓰기 후 읽기 일관성(read-your-writes) 추적
+ * 쓰기 트랜잭션이 커밋되면 일정 시간 동안 같은 클라이언트의 읽기를 주 DB로 보낸다.
+ * 복제본에 아직 반영되지 않은 본인 변경을 바로 다음 조회에서 놓치지 않게 하기 위함이다.
+ * - 웹 요청: 응답에 만료 시각을 담은 짧은 쿠키(STRIVE_RYW)를 내려 보안 컨텍스트와 무관하게 판별한다.
+ *   공개 조회 체인(GET /api/meetups/**)은 세션 주체를 읽지 않으므로 사용자 ID만으로는 판별할 수 없고,
+ *   쿠키는 다른 노드로 가는 다음 요청에도 그대로 적용된다.
+ * - 인증된 사용자: 쿠키를 보관하지 않는 클라이언트(Bearer 토큰 등)를 위해 사용자 ID로도 기록한다.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    static final String COOKIE_NAME = "STRIVE_RYW";
+    private static final String MARKED_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".UNTIL";
+
+    private final long windowNanos;
+    private final long windowMillis;
+    private final int maxTrackedUsers;
+    private final LongSupplier nanoClock;
+    private final LongSupplier wallClock;
+
+    /** 사용자 ID → 주 DB 읽기 만료 시각(nanoTime) */
+    private final ConcurrentMap<Long, Long> primaryReadsUntil = new ConcurrentHashMap<>();
+    /** 추적 상한 초과 시 모든 사용자의 읽기를 주 DB로 보내는 만료 시각 */
+    private final AtomicLong allPrimaryUntil;
+
+    public ReadYourWritesTracker(Duration window, int maxTrackedUsers) {
+        this(window, maxTrackedUsers, System::nanoTime, System::currentTimeMillis);
+    }
+
+    ReadYourWritesTracker(Duration window, int maxTrackedUsers, LongSupplier nanoClock) {
+        this(window, maxTrackedUsers, nanoClock, System::currentTimeMillis);
+    }
+
+    ReadYourWritesTracker(Duration window, int maxTrackedUsers, LongSupplier nanoClock, LongSupplier wallClock) {
+        this.windowNanos = window.toNanos();
+        this.windowMillis = window.toMillis();
+        this.maxTrackedUsers = maxTrackedUsers;
+        this.nanoClock = nanoClock;
+        this.wallClock = wallClock;
+        this.allPrimaryUntil = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * 새로 시작된 쓰기 트랜잭션이 커밋되면 현재 요청/사용자를 기록 (실제 변경 여부와 무관하게 보수적으로 기록)
+     */
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure != null || !transaction.isNewTransaction() || transaction.isReadOnly()) {
+            return;
+        }
+        markCurrentRequest();
+        Long userId = currentUserId();
+        if (userId != null) {
+            recordWrite(userId);
+        }
+    }
+
+    void recordWrite(Long userId) {
+        long until = nanoClock.getAsLong() + windowNanos;
+        if (primaryReadsUntil.size() >= maxTrackedUsers && !primaryReadsUntil.containsKey(userId)) {
+            purgeExpired();
+            if (primaryReadsUntil.size() >= maxTrackedUsers) {
+                allPrimaryUntil.accumulateAndGet(until, (current, next) -> next - current > 0 ? next : current);
+                return;
+            }
+        }
+        primaryReadsUntil.put(userId, until);
+    }
+
+    /**
+     * 현재 사용자의 읽기를 주 DB로 보내야 하는지 여부
+     */
+    public boolean mustReadFromPrimary() {
+        long now = nanoClock.getAsLong();
+        if (allPrimaryUntil.get() - now > 0 || isCurrentRequestMarked()) {
+            return true;
+        }
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Long until = primaryReadsUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - now > 0) {
+            return true;
+        }
+        primaryReadsUntil.remove(userId, until);
+        return false;
+    }
+
+    /**
+     * 응답에 주 DB 읽기 만료 시각 쿠키를 추가 (같은 요청의 이후 읽기도 주 DB로 가도록 요청 속성에도 기록)
+     */
+    private void markCurrentRequest() {
+        ServletRequestAttributes attributes = currentRequestAttributes();
+        if (attributes == null || attributes.getResponse() == null
+                || attributes.getRequest().getAttribute(MARKED_ATTRIBUTE) != null) {
+            return;
+        }
+        long untilMillis = wallClock.getAsLong() + windowMillis;
+        HttpServletRequest request = attributes.getRequest();
+        request.setAttribute(MARKED_ATTRIBUTE, untilMillis);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response.isCommitted()) {
+            return;
+        }
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(untilMillis))
+                .path("/")
+                .maxAge(Duration.ofMillis(windowMillis).plusSeconds(1).toSeconds())
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    /**
+     * 이 요청에서 커밋했거나, 최근 쓰기 쿠키의 만료 시각이 지나지 않았는지 여부
+     * (쿠키 값은 만료 시각뿐이라 위조해도 주 DB로 읽게 될 뿐 권한에는 영향이 없다)
+     */
+    private boolean isCurrentRequestMarked() {
+        ServletRequestAttributes attributes = currentRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(MARKED_ATTRIBUTE) != null) {
+            return true;
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        long now = wallClock.getAsLong();
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    long untilMillis = Long.parseLong(cookie.getValue());
+                    // 클라이언트가 만료 시각을 늘려도 창 길이 이상으로는 인정하지 않음
+                    return untilMillis > now && untilMillis - now <= windowMillis;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static ServletRequestAttributes currentRequestAttributes() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes : null;
+    }
+
+    private void purgeExpired() {
+        long now = nanoClock.getAsLong();
+        primaryReadsUntil.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
+    }
+
+    @Nullable
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,67 @@
+package io.heygw44.strive.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 커넥션 공급원 - 기본은 복제본, 아래 경우에는 주 DB로 대체
+ * - 현재 사용자가 방금 쓰기를 커밋함 (복제 지연으로 본인 변경이 안 보일 수 있음)
+ * - 복제본 커넥션 획득 실패
+ * LazyConnectionDataSourceProxy의 readOnlyDataSource로 쓰여 읽기 전용 트랜잭션에서만 호출된다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Counter replicaReads;
+    private final Counter readYourWritesReads;
+    private final Counter replicaUnavailableReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReadYourWritesTracker readYourWrites, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWrites = readYourWrites;
+        this.replicaReads = readCounter(meterRegistry, "replica", "default");
+        this.readYourWritesReads = readCounter(meterRegistry, "primary", "read_your_writes");
+        this.replicaUnavailableReads = readCounter(meterRegistry, "primary", "replica_unavailable");
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("strive.datasource.reads")
+                .description("읽기 전용 트랜잭션 커넥션 라우팅")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (readYourWrites.mustReadFromPrimary()) {
+            readYourWritesReads.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaReads.increment();
+            return connection;
+        } catch (SQLException e) {
+            log.warn("복제본 커넥션 획득 실패 - 주 DB로 읽기: {}", e.getMessage());
+            replicaUnavailableReads.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("풀 설정의 계정으로만 커넥션을 획득합니다");
+    }
+}
@@ -0,0 +1,32 @@
+package io.heygw44.strive.global.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 쓰기 커넥션 공급원 - {@link LockingWrite} 작업이면 락 쓰기 풀, 그 외에는 일반 쓰기 풀
+ * 락 쓰기 풀이 고갈되면 그 작업만 커넥션 대기 시간 초과로 실패하고 일반 쓰기는 계속 처리된다.
+ */
+public class WriteRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource write;
+    private final DataSource locking;
+
+    public WriteRoutingDataSource(DataSource write, DataSource locking) {
+        this.write = write;
+        this.locking = locking;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return LockingWorkloadAspect.isLockingWorkload() ? locking.getConnection() : write.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("풀 설정의 계정으로만 커넥션을 획득합니다");
+    }
+}
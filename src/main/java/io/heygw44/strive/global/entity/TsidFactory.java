@@ -0,0 +1,90 @@
+package io.heygw44.strive.global.entity;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순 정렬 64비트 ID 생성기 (TSID/Snowflake 형식)
+ * <pre>
+ * | 0 | 타임스탬프 41비트 (EPOCH 기준 ms) | 노드 10비트 | 시퀀스 12비트 |
+ * </pre>
+ * 같은 ms 안에서는 시퀀스를 올리고, 시퀀스가 넘치면 다음 ms를 미리 당겨 쓴다.
+ * 시계가 뒤로 가도 마지막 타임스탬프를 이어 써서 노드 안에서는 항상 단조 증가한다.
+ * 상태(타임스탬프+시퀀스)를 AtomicLong 하나에 담아 CAS로 갱신하므로 락이 없다.
+ */
+@Slf4j
+public final class TsidFactory {
+
+    /** 2025-01-01T00:00:00Z - 41비트 타임스탬프로 약 69년 사용 가능 */
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << 41) - 1;
+
+    private static final Map<Integer, TsidFactory> BY_NODE = new ConcurrentHashMap<>();
+    private static final int RANDOM_NODE = new SecureRandom().nextInt(MAX_NODE + 1);
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    /** (EPOCH 기준 ms << SEQUENCE_BITS) | 시퀀스 - 시퀀스 넘침은 그대로 타임스탬프로 올림된다 */
+    private final AtomicLong state = new AtomicLong();
+
+    TsidFactory(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE + " 범위여야 합니다: " + node);
+        }
+        this.nodeBits = (long) node << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * 노드별 공유 생성기 (같은 노드의 모든 엔티티가 하나의 시퀀스를 쓴다)
+     * @param node 노드 ID - null이면 프로세스 시작 시 정한 임의 노드 (다중 노드 배포에서는 명시 필요)
+     */
+    public static TsidFactory forNode(Integer node) {
+        if (node == null) {
+            return BY_NODE.computeIfAbsent(RANDOM_NODE, n -> {
+                log.warn("TSID 노드 ID 미설정 - 임의 노드 {} 사용 (다중 노드 배포 시 STRIVE_NODE_ID 지정 필요)", n);
+                return new TsidFactory(n, System::currentTimeMillis);
+            });
+        }
+        return BY_NODE.computeIfAbsent(node, n -> new TsidFactory(n, System::currentTimeMillis));
+    }
+
+    public long nextId() {
+        long next;
+        while (true) {
+            long previous = state.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            next = now > (previous >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : previous + 1;
+            if (state.compareAndSet(previous, next)) {
+                break;
+            }
+        }
+        long timestamp = next >>> SEQUENCE_BITS;
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("TSID 타임스탬프 범위 초과");
+        }
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+    }
+
+    /**
+     * ID에 기록된 생성 시각
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE);
+    }
+}
@@ -0,0 +1,63 @@
+package io.heygw44.strive.global.entity;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * {@link TsidId} 식별자 생성기 (Hibernate)
+ * 노드 ID는 Hibernate 설정 strive.id.node-id (spring.jpa.properties)로 받는다.
+ * strive.id.require-node-id가 true이면(prod) 노드 ID가 없거나 잘못된 경우 임의 노드로 대체하지 않고 기동을 실패시킨다.
+ */
+public class TsidGenerator implements BeforeExecutionGenerator {
+
+    public static final String NODE_ID_SETTING = "strive.id.node-id";
+    public static final String REQUIRE_NODE_ID_SETTING = "strive.id.require-node-id";
+
+    private final TsidFactory factory;
+
+    public TsidGenerator(TsidId config, Member idMember, GeneratorCreationContext context) {
+        Map<String, Object> settings = context.getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings();
+        this.factory = TsidFactory.forNode(resolveNode(settings.get(NODE_ID_SETTING),
+                Boolean.parseBoolean(String.valueOf(settings.get(REQUIRE_NODE_ID_SETTING)))));
+    }
+
+    /**
+     * @return 설정된 노드 ID (미설정이고 필수가 아니면 null - 임의 노드 사용)
+     * @throws IllegalStateException 필수인데 미설정이거나, 숫자가 아닌 경우
+     */
+    static Integer resolveNode(Object node, boolean required) {
+        if (node == null || node.toString().isBlank()) {
+            if (required) {
+                throw new IllegalStateException(
+                        "TSID 노드 ID가 필요합니다 - 노드마다 다른 STRIVE_NODE_ID(0~" + TsidFactory.MAX_NODE + ")를 지정하세요");
+            }
+            return null;
+        }
+        try {
+            return Integer.valueOf(node.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("TSID 노드 ID는 숫자여야 합니다: " + node, e);
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return factory.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,18 @@
+package io.heygw44.strive.global.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 생성하는 시간 순 ID (TsidFactory)
+ * IDENTITY와 달리 persist 시점에 ID가 정해지므로 INSERT를 flush까지 미뤄 JDBC 배치로 보낼 수 있다.
+ */
+@IdGeneratorType(TsidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidId {
+}
@@ -8,6 +8,8 @@ public enum ErrorCode {
     AUTH_FORBIDDEN("AUTH-403", "권한이 없습니다", HttpStatus.FORBIDDEN),
     VALIDATION_ERROR("REQ-400", "입력값이 올바르지 않습니다", HttpStatus.BAD_REQUEST),
     RESOURCE_NOT_FOUND("RES-404", "리소스를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+    RATE_LIMIT_EXCEEDED("REQ-429", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요", HttpStatus.TOO_MANY_REQUESTS),
+    LOCK_CONTENDED("SYS-503-LOCK", "요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요", HttpStatus.SERVICE_UNAVAILABLE),
 
     // Auth
     INVALID_CREDENTIALS("AUTH-401-CREDENTIALS", "이메일 또는 비밀번호가 올바르지 않습니다", HttpStatus.UNAUTHORIZED),
@@ -16,6 +18,7 @@ public enum ErrorCode {
     INVALID_PASSWORD_LENGTH("AUTH-400-PASSWORD", "비밀번호는 10자 이상이어야 합니다", HttpStatus.BAD_REQUEST),
     EMAIL_ALREADY_VERIFIED("AUTH-409-VERIFIED", "이미 인증된 이메일입니다", HttpStatus.CONFLICT),
     VERIFICATION_TOKEN_INVALID("AUTH-400-TOKEN", "유효하지 않거나 만료된 인증 토큰입니다", HttpStatus.BAD_REQUEST),
+    REFRESH_TOKEN_INVALID("AUTH-401-REFRESH", "유효하지 않거나 만료된 리프레시 토큰입니다", HttpStatus.UNAUTHORIZED),
     SESSION_LIMIT_EXCEEDED("AUTH-409-SESSION", "동시 로그인 제한을 초과했습니다", HttpStatus.CONFLICT),
 
     // Meetup
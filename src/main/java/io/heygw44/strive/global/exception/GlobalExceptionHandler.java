@@ -2,6 +2,10 @@ package io.heygw44.strive.global.exception;
 
 import io.heygw44.strive.global.response.ErrorResponse;
 import io.heygw44.strive.global.response.FieldError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.web.authentication.session.SessionAuthenticationException;
 import org.springframework.validation.BindingResult;
@@ -12,19 +16,36 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.util.List;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private static final String ERROR_METRIC = "strive.errors";
+
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex) {
         ErrorCode errorCode = ex.getErrorCode();
+        countError(errorCode);
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .body(ErrorResponse.from(errorCode));
+    }
+
+    @ExceptionHandler(RetryableBusinessException.class)
+    public ResponseEntity<ErrorResponse> handleRetryableBusinessException(RetryableBusinessException ex) {
+        ErrorCode errorCode = ex.getErrorCode();
+        countError(errorCode);
         return ResponseEntity
                 .status(errorCode.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
                 .body(ErrorResponse.from(errorCode));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException ex) {
         BindingResult bindingResult = ex.getBindingResult();
+        countError(ErrorCode.VALIDATION_ERROR);
         List<FieldError> fieldErrors = bindingResult.getFieldErrors().stream()
                 .map(error -> new FieldError(error.getField(), error.getDefaultMessage()))
                 .toList();
@@ -35,6 +56,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(SessionAuthenticationException.class)
     public ResponseEntity<ErrorResponse> handleSessionAuthException(SessionAuthenticationException ex) {
+        countError(ErrorCode.SESSION_LIMIT_EXCEEDED);
         return ResponseEntity
                 .status(ErrorCode.SESSION_LIMIT_EXCEEDED.getHttpStatus())
                 .body(ErrorResponse.from(ErrorCode.SESSION_LIMIT_EXCEEDED));
@@ -42,8 +64,21 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleUnhandledException(Exception ex) {
+        countError(ErrorCode.INTERNAL_ERROR);
         return ResponseEntity
                 .status(ErrorCode.INTERNAL_ERROR.getHttpStatus())
                 .body(ErrorResponse.internal());
     }
+
+    /**
+     * ErrorCode별 응답 건수 (태그는 코드값만 사용 - 모임별 분포는 로그/락 모니터로 확인)
+     */
+    private void countError(ErrorCode errorCode) {
+        Counter.builder(ERROR_METRIC)
+                .description("ErrorCode별 오류 응답 수")
+                .tag("code", errorCode.getCode())
+                .tag("status", String.valueOf(errorCode.getHttpStatus().value()))
+                .register(meterRegistry)
+                .increment();
+    }
 }
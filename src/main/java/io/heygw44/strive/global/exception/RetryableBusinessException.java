@@ -0,0 +1,28 @@
+package io.heygw44.strive.global.exception;
+
+import java.time.Duration;
+
+/**
+ * 잠시 후 재시도하면 성공할 수 있는 비즈니스 예외
+ * GlobalExceptionHandler가 Retry-After 헤더(초 단위)를 함께 응답한다.
+ */
+public class RetryableBusinessException extends BusinessException {
+    private final Duration retryAfter;
+
+    public RetryableBusinessException(ErrorCode errorCode, Duration retryAfter) {
+        super(errorCode);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+     */
+    public long getRetryAfterSeconds() {
+        long millis = retryAfter.toMillis();
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
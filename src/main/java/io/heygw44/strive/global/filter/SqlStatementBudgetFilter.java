@@ -0,0 +1,65 @@
+package io.heygw44.strive.global.filter;
+
+import io.heygw44.strive.global.sql.SqlBudgetProperties;
+import io.heygw44.strive.global.sql.SqlStatementStats;
+import io.heygw44.strive.global.sql.SqlStatementTracker;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청별 SQL 문 수/DB 시간 집계 및 예산 초과 경고
+ * 결과는 MDC(sqlCount, sqlTimeMs)와 요청 속성(SqlStatementStats.REQUEST_ATTRIBUTE)에 남긴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "strive.sql.budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlBudgetProperties properties;
+    private final DistributionSummary statementsPerRequest;
+
+    public SqlStatementBudgetFilter(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.statementsPerRequest = DistributionSummary.builder("strive.sql.statements.per.request")
+                .description("요청당 실행된 SQL 문 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementTracker.start();
+        request.setAttribute(SqlStatementStats.REQUEST_ATTRIBUTE, stats);
+        MDC.put(SqlStatementTracker.MDC_STATEMENT_COUNT, "0");
+        MDC.put(SqlStatementTracker.MDC_ELAPSED_MILLIS, "0");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementTracker.stop(stats);
+            statementsPerRequest.record(stats.getStatementCount());
+            if (stats.getStatementCount() > properties.maxStatements()
+                    || stats.getElapsedMillis() > properties.maxMillis()) {
+                log.warn("SQL 예산 초과: {} {} statements={} (budget={}), dbTimeMs={} (budget={})",
+                        request.getMethod(), request.getRequestURI(),
+                        stats.getStatementCount(), properties.maxStatements(),
+                        stats.getElapsedMillis(), properties.maxMillis());
+            }
+            MDC.remove(SqlStatementTracker.MDC_STATEMENT_COUNT);
+            MDC.remove(SqlStatementTracker.MDC_ELAPSED_MILLIS);
+        }
+    }
+}
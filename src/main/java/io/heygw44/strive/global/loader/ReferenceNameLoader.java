@@ -0,0 +1,45 @@
+package io.heygw44.strive.global.loader;
+
+import io.heygw44.strive.domain.meetup.entity.Category;
+import io.heygw44.strive.domain.meetup.entity.Region;
+import io.heygw44.strive.domain.meetup.repository.CategoryRepository;
+import io.heygw44.strive.domain.meetup.repository.RegionRepository;
+import io.heygw44.strive.domain.user.service.NicknameCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 조립용 참조 이름(사용자 닉네임/카테고리명/지역명) 배치 로더
+ * 조립 단위마다 newBatch()로 배치를 만들어 필요한 ID를 등록한 뒤 load()로 유형별 한 번씩 조회한다.
+ * 닉네임은 NicknameCache를 거쳐 캐시 미스만 DB에서 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceNameLoader {
+
+    private final NicknameCache nicknameCache;
+    private final CategoryRepository categoryRepository;
+    private final RegionRepository regionRepository;
+
+    public ReferenceNames newBatch() {
+        return new ReferenceNames(this);
+    }
+
+    Map<Long, String> loadUserNicknames(Collection<Long> userIds) {
+        return nicknameCache.getNicknames(userIds);
+    }
+
+    Map<Long, String> loadCategoryNames(Collection<Long> categoryIds) {
+        return categoryRepository.findAllById(categoryIds).stream()
+            .collect(Collectors.toMap(Category::getId, Category::getName));
+    }
+
+    Map<String, String> loadRegionNames(Collection<String> regionCodes) {
+        return regionRepository.findAllById(regionCodes).stream()
+            .collect(Collectors.toMap(Region::getCode, Region::getName));
+    }
+}
@@ -0,0 +1,83 @@
+package io.heygw44.strive.global.loader;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 한 번의 응답 조립 동안 요청된 참조 ID를 모아 중복 제거 후 유형별 한 번의 쿼리로 해석하는 배치
+ * 등록 시 받은 Supplier는 load() 이후에만 읽을 수 있으며, 대상이 없으면 null을 반환한다.
+ * 스레드 안전하지 않으므로 조립 범위 안에서만 사용한다.
+ */
+public final class ReferenceNames {
+
+    private final Group<Long> userNicknames;
+    private final Group<Long> categoryNames;
+    private final Group<String> regionNames;
+
+    ReferenceNames(ReferenceNameLoader loader) {
+        this.userNicknames = new Group<>(loader::loadUserNicknames);
+        this.categoryNames = new Group<>(loader::loadCategoryNames);
+        this.regionNames = new Group<>(loader::loadRegionNames);
+    }
+
+    public Supplier<String> userNickname(Long userId) {
+        return userNicknames.request(userId);
+    }
+
+    public Supplier<String> categoryName(Long categoryId) {
+        return categoryNames.request(categoryId);
+    }
+
+    public Supplier<String> regionName(String regionCode) {
+        return regionNames.request(regionCode);
+    }
+
+    /**
+     * 아직 해석되지 않은 ID를 유형별로 한 번씩 조회 (등록된 ID가 없는 유형은 쿼리하지 않음)
+     */
+    public ReferenceNames load() {
+        userNicknames.load();
+        categoryNames.load();
+        regionNames.load();
+        return this;
+    }
+
+    private static final class Group<K> {
+
+        private final Function<Collection<K>, Map<K, String>> batchLoader;
+        private final Set<K> pending = new LinkedHashSet<>();
+        private final Map<K, String> resolved = new HashMap<>();
+
+        private Group(Function<Collection<K>, Map<K, String>> batchLoader) {
+            this.batchLoader = batchLoader;
+        }
+
+        private Supplier<String> request(K key) {
+            if (key != null && !resolved.containsKey(key)) {
+                pending.add(key);
+            }
+            return () -> {
+                if (key != null && pending.contains(key)) {
+                    throw new IllegalStateException("load() 호출 전에는 조회 결과를 읽을 수 없습니다: " + key);
+                }
+                return key == null ? null : resolved.get(key);
+            };
+        }
+
+        private void load() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            Map<K, String> loaded = batchLoader.apply(Set.copyOf(pending));
+            for (K key : pending) {
+                resolved.put(key, loaded.get(key));
+            }
+            pending.clear();
+        }
+    }
+}
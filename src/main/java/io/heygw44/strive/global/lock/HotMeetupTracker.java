@@ -0,0 +1,122 @@
+package io.heygw44.strive.global.lock;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 모임별 비관적 락 대기 집계 (핫 모임 보고)
+ * 모임 ID를 메트릭 태그로 쓰면 카디널리티가 모임 수만큼 늘어나므로, 보고 주기 동안 메모리에 모아
+ * 누적 대기 시간 상위 모임을 로그로 남기고 초기화한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(LockContentionProperties.class)
+public class HotMeetupTracker implements MeterBinder {
+
+    private final int maxTrackedMeetups;
+    private final int reportSize;
+    private final Map<Long, LockStats> stats = new ConcurrentHashMap<>();
+    private final AtomicLong droppedSamples = new AtomicLong();
+
+    public HotMeetupTracker(LockContentionProperties properties) {
+        this.maxTrackedMeetups = properties.maxTrackedMeetups();
+        this.reportSize = properties.reportSize();
+    }
+
+    /**
+     * 락 획득 시도 1건 기록
+     * @param meetupId  락 대상 모임 (null이면 무시)
+     * @param waitNanos 락 조회에 걸린 시간
+     * @param failed    타임아웃/데드락으로 획득 실패 여부
+     */
+    public void record(Long meetupId, long waitNanos, boolean failed) {
+        if (meetupId == null) {
+            return;
+        }
+        LockStats meetupStats = stats.get(meetupId);
+        if (meetupStats == null) {
+            if (stats.size() >= maxTrackedMeetups) {
+                droppedSamples.incrementAndGet();
+                return;
+            }
+            meetupStats = stats.computeIfAbsent(meetupId, id -> new LockStats());
+        }
+        meetupStats.add(waitNanos, failed);
+    }
+
+    /**
+     * 누적 대기 시간 상위 모임 (보고 주기 내)
+     */
+    public List<HotMeetup> top(int limit) {
+        List<HotMeetup> snapshot = new ArrayList<>(stats.size());
+        stats.forEach((meetupId, meetupStats) -> snapshot.add(meetupStats.toHotMeetup(meetupId)));
+        snapshot.sort(Comparator.comparingLong(HotMeetup::totalWaitMillis).reversed());
+        return snapshot.size() > limit ? snapshot.subList(0, limit) : snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${strive.lock-contention.report-interval:PT1M}")
+    public void report() {
+        List<HotMeetup> hot = top(reportSize);
+        stats.clear();
+        if (!hot.isEmpty()) {
+            log.info("핫 모임 락 대기 상위 {}건: {}", hot.size(), hot);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("strive.lock.hot-meetups.tracked", stats, Map::size)
+                .description("락 대기 집계 중인 모임 수")
+                .register(registry);
+        FunctionCounter.builder("strive.lock.hot-meetups.dropped", droppedSamples, AtomicLong::get)
+                .description("집계 상한 초과로 버린 락 대기 샘플 수")
+                .register(registry);
+    }
+
+    /**
+     * @param acquisitions    락 조회 횟수
+     * @param failures        획득 실패 횟수
+     * @param totalWaitMillis 누적 대기 시간
+     * @param maxWaitMillis   최대 대기 시간
+     */
+    public record HotMeetup(Long meetupId, long acquisitions, long failures, long totalWaitMillis, long maxWaitMillis) {
+    }
+
+    private static final class LockStats {
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+        void add(long waitNanos, boolean failed) {
+            acquisitions.increment();
+            if (failed) {
+                failures.increment();
+            }
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulate(waitNanos);
+        }
+
+        HotMeetup toHotMeetup(Long meetupId) {
+            return new HotMeetup(meetupId, acquisitions.sum(), failures.sum(),
+                    TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum()),
+                    TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.heygw44.strive.global.lock;
+
+import io.heygw44.strive.global.datasource.LockingWorkloadAspect;
+import io.heygw44.strive.global.exception.ErrorCode;
+import io.heygw44.strive.global.exception.RetryableBusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비관적 락 경합 측정/처리
+ * - *ForUpdate 리포지토리 호출: 락 획득 대기 시간(strive.lock.wait)과 모임별 집계(HotMeetupTracker) 기록,
+ *   트랜잭션의 첫 락 획득부터 커밋/롤백(락 해제)까지의 보유 시간(strive.lock.hold) 기록
+ * - @LockingWrite 메서드: 락 획득 실패(타임아웃/데드락) 시 지터 백오프 후 트랜잭션째 재시도하고,
+ *   시도를 모두 소진하면 SYS-500 대신 503 + Retry-After로 응답
+ * - @LockingWrite 메서드: 락 전용 풀에서 커넥션을 얻지 못한 경우(풀 고갈)도 같은 경합 상황이므로
+ *   이미 connectionTimeout만큼 대기했다는 점을 감안해 재시도 없이 바로 503 + Retry-After로 응답
+ * 트랜잭션 인터셉터보다 바깥에서 실행되어야 재시도마다 새 트랜잭션이 열리므로 최우선 순서로 둔다.
+ * 호출 시점에 이미 트랜잭션이 있으면(바깥 트랜잭션 안의 호출) 재시도하지 않고 응답 변환만 한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LockContentionAspect {
+
+    static final String WAIT_METRIC = "strive.lock.wait";
+    static final String HOLD_METRIC = "strive.lock.hold";
+    static final String RETRY_METRIC = "strive.lock.retries";
+
+    private final HotMeetupTracker hotMeetupTracker;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration retryAfter;
+    private final Map<WaitKey, Timer> waitTimers = new ConcurrentHashMap<>();
+    private final Map<HoldKey, Timer> holdTimers = new ConcurrentHashMap<>();
+    private final Counter retried;
+    private final Counter exhausted;
+    private final Counter poolExhausted;
+
+    public LockContentionAspect(LockContentionProperties properties, HotMeetupTracker hotMeetupTracker,
+                                MeterRegistry meterRegistry) {
+        this.hotMeetupTracker = hotMeetupTracker;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, properties.maxAttempts());
+        this.initialBackoff = properties.initialBackoff();
+        this.maxBackoff = properties.maxBackoff();
+        this.retryAfter = properties.retryAfter();
+        this.retried = retryCounter(meterRegistry, "retried");
+        this.exhausted = retryCounter(meterRegistry, "exhausted");
+        this.poolExhausted = retryCounter(meterRegistry, "pool_exhausted");
+    }
+
+    private static Counter retryCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(RETRY_METRIC)
+                .description("락 획득 실패에 따른 트랜잭션 재시도")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Around("execution(* io.heygw44.strive.domain..repository.*Repository.*ForUpdate(..))")
+    public Object timeLockWait(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            Object result = joinPoint.proceed();
+            startHoldTimer(method);
+            return result;
+        } catch (RuntimeException e) {
+            failed = isLockFailure(e);
+            throw e;
+        } finally {
+            long waitNanos = System.nanoTime() - start;
+            waitTimer(method, failed).record(waitNanos, TimeUnit.NANOSECONDS);
+            hotMeetupTracker.record(LockingWorkloadAspect.currentMeetupId(), waitNanos, failed);
+        }
+    }
+
+    @Around("@annotation(io.heygw44.strive.global.datasource.LockingWrite)")
+    public Object retryOnLockFailure(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean retryable = !TransactionSynchronizationManager.isActualTransactionActive();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (RuntimeException e) {
+                if (isConnectionAcquireTimeout(e)) {
+                    poolExhausted.increment();
+                    log.warn("락 전용 커넥션 획득 실패: method={}, cause={}",
+                            joinPoint.getSignature().toShortString(), e.getClass().getSimpleName());
+                    throw new RetryableBusinessException(ErrorCode.LOCK_CONTENDED, retryAfter);
+                }
+                if (!isLockFailure(e)) {
+                    throw e;
+                }
+                if (!retryable || attempt >= maxAttempts) {
+                    exhausted.increment();
+                    log.warn("락 획득 실패: method={}, attempts={}, cause={}",
+                            joinPoint.getSignature().toShortString(), attempt, e.getClass().getSimpleName());
+                    throw new RetryableBusinessException(ErrorCode.LOCK_CONTENDED, retryAfter);
+                }
+                retried.increment();
+                if (!sleepBeforeRetry(attempt)) {
+                    throw new RetryableBusinessException(ErrorCode.LOCK_CONTENDED, retryAfter);
+                }
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션에서 처음 락을 잡은 시점부터 완료 시점까지 기록 (같은 트랜잭션의 이후 락 조회는 무시)
+     * 트랜잭션 밖 호출이면 락이 조회 직후 해제되므로 기록하지 않는다.
+     */
+    private void startHoldTimer(Method method) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        long lockedAt = System.nanoTime();
+        TransactionSynchronizationManager.bindResource(this, lockedAt);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LockContentionAspect.this);
+                holdTimer(method, status == STATUS_COMMITTED)
+                        .record(System.nanoTime() - lockedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    /**
+     * 지터 백오프: 상한(initialBackoff * 2^(attempt-1), 최대 maxBackoff)의 절반~전체 사이 임의 대기
+     * 동시에 실패한 요청들이 같은 시점에 다시 몰리지 않도록 한다.
+     * @return 인터럽트 없이 대기를 마쳤는지 여부
+     */
+    private boolean sleepBeforeRetry(int attempt) {
+        long capMillis = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        long sleepMillis = capMillis / 2 + ThreadLocalRandom.current().nextLong(capMillis / 2 + 1);
+        try {
+            Thread.sleep(sleepMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static boolean isLockFailure(Throwable e) {
+        return e instanceof PessimisticLockingFailureException
+                || e instanceof PessimisticLockException
+                || e instanceof LockTimeoutException;
+    }
+
+    /**
+     * 커넥션 풀 대기 시간 초과 여부
+     * HikariCP는 connectionTimeout 초과 시 SQLTransientConnectionException을 던지고,
+     * 스프링은 이를 트랜잭션 시작 시 CannotCreateTransactionException, 직접 조회 시 CannotGetJdbcConnectionException으로 감싼다.
+     */
+    static boolean isConnectionAcquireTimeout(Throwable e) {
+        if (!(e instanceof CannotCreateTransactionException || e instanceof CannotGetJdbcConnectionException)) {
+            return false;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Timer waitTimer(Method method, boolean failed) {
+        return waitTimers.computeIfAbsent(new WaitKey(method, failed), key -> Timer.builder(WAIT_METRIC)
+                .description("비관적 락 조회 대기 시간")
+                .tag("class", key.method().getDeclaringClass().getSimpleName())
+                .tag("method", key.method().getName())
+                .tag("outcome", key.failed() ? "failed" : "acquired")
+                .register(meterRegistry));
+    }
+
+    private Timer holdTimer(Method method, boolean committed) {
+        return holdTimers.computeIfAbsent(new HoldKey(method, committed), key -> Timer.builder(HOLD_METRIC)
+                .description("비관적 락 보유 시간 (첫 락 획득 ~ 트랜잭션 완료)")
+                .tag("class", key.method().getDeclaringClass().getSimpleName())
+                .tag("method", key.method().getName())
+                .tag("outcome", key.committed() ? "committed" : "rolled_back")
+                .register(meterRegistry));
+    }
+
+    private record WaitKey(Method method, boolean failed) {
+    }
+
+    private record HoldKey(Method method, boolean committed) {
+    }
+}
@@ -0,0 +1,26 @@
+package io.heygw44.strive.global.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비관적 락 경합 처리 설정
+ * @param maxAttempts        락 획득 실패 시 트랜잭션 전체를 다시 실행하는 최대 시도 수 (1이면 재시도 없음)
+ * @param initialBackoff     첫 재시도 전 대기 상한 (시도마다 2배, 실제 대기는 상한의 절반~전체 사이 임의값)
+ * @param maxBackoff         재시도 대기 상한
+ * @param retryAfter         최종 실패 응답의 Retry-After
+ * @param maxTrackedMeetups  모임별 락 대기 집계 키 상한 (초과분은 집계하지 않고 버림 건수만 기록)
+ * @param reportSize         주기 보고에 포함할 모임 수
+ */
+@ConfigurationProperties(prefix = "strive.lock-contention")
+public record LockContentionProperties(
+        @DefaultValue("1") int maxAttempts,
+        @DefaultValue("20ms") Duration initialBackoff,
+        @DefaultValue("200ms") Duration maxBackoff,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue("1000") int maxTrackedMeetups,
+        @DefaultValue("10") int reportSize
+) {
+}
@@ -0,0 +1,75 @@
+package io.heygw44.strive.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 계층 호출 시간 측정
+ * - strive.repository: 리포지토리 메서드 (findByIdForUpdate는 비관적 락 획득 대기 시간을 포함)
+ * - strive.assembler: 응답 조립기
+ * - strive.service: 서비스 메서드
+ * 태그는 클래스/메서드 이름만 사용해 카디널리티를 코드 크기로 제한한다.
+ * 컨트롤러별 지연 시간은 http.server.requests(uri 태그)로 수집한다.
+ */
+@Aspect
+@Component
+public class DomainMetricsAspect {
+
+    static final String REPOSITORY_METRIC = "strive.repository";
+    static final String ASSEMBLER_METRIC = "strive.assembler";
+    static final String SERVICE_METRIC = "strive.service";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public DomainMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* io.heygw44.strive.domain..repository.*Repository.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(REPOSITORY_METRIC, joinPoint);
+    }
+
+    @Around("execution(* io.heygw44.strive.domain..service.*Assembler.*(..))")
+    public Object timeAssembler(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(ASSEMBLER_METRIC, joinPoint);
+    }
+
+    @Around("execution(public * io.heygw44.strive.domain..service.*Service.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(SERVICE_METRIC, joinPoint);
+    }
+
+    private Object record(String metricName, ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer timer = timers.computeIfAbsent(new TimerKey(metricName, method), this::createTimer);
+
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer createTimer(TimerKey key) {
+        return Timer.builder(key.metricName())
+                .tag("class", key.method().getDeclaringClass().getSimpleName())
+                .tag("method", key.method().getName())
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String metricName, Method method) {
+    }
+}
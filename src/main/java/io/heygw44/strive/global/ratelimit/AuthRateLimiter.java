@@ -0,0 +1,121 @@
+package io.heygw44.strive.global.ratelimit;
+
+import io.heygw44.strive.global.exception.ErrorCode;
+import io.heygw44.strive.global.exception.RetryableBusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 로그인/회원가입 요청 제한
+ * BCrypt 해시 연산 전에 호출하여 크리덴셜 스터핑 트래픽이 CPU를 점유하지 못하도록 한다.
+ * 초과 시 429와 Retry-After를 응답한다.
+ */
+@Slf4j
+@Component
+public class AuthRateLimiter {
+
+    private static final String METRIC_REJECTIONS = "strive.ratelimit.rejections";
+    private static final String METRIC_KEYS = "strive.ratelimit.keys";
+
+    private final boolean enabled;
+    private final SlidingWindowRateLimiter loginPerIp;
+    private final SlidingWindowRateLimiter loginPerEmail;
+    private final SlidingWindowRateLimiter signupPerIp;
+
+    private final Counter loginPerIpRejections;
+    private final Counter loginPerEmailRejections;
+    private final Counter signupPerIpRejections;
+
+    public AuthRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.loginPerIp = create(properties, properties.loginPerIp());
+        this.loginPerEmail = create(properties, properties.loginPerEmail());
+        this.signupPerIp = create(properties, properties.signupPerIp());
+
+        this.loginPerIpRejections = rejectionCounter(meterRegistry, "login_ip");
+        this.loginPerEmailRejections = rejectionCounter(meterRegistry, "login_email");
+        this.signupPerIpRejections = rejectionCounter(meterRegistry, "signup_ip");
+
+        keyGauge(meterRegistry, "login_ip", loginPerIp);
+        keyGauge(meterRegistry, "login_email", loginPerEmail);
+        keyGauge(meterRegistry, "signup_ip", signupPerIp);
+    }
+
+    /**
+     * 로그인 요청 제한 확인 (IP 단위 → 이메일 단위 순)
+     * 이메일 단위에서 거절되면 처리되지 않은 요청이므로 IP 단위 허용분을 되돌린다.
+     * (한 계정에 몰린 시도로 같은 IP - NAT/프록시 뒤 다른 사용자 - 의 한도까지 소진되지 않도록)
+     */
+    public void checkLogin(String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+        check(loginPerIp, clientIp, loginPerIpRejections);
+        try {
+            check(loginPerEmail, normalizeEmail(email), loginPerEmailRejections);
+        } catch (RetryableBusinessException e) {
+            loginPerIp.release(clientIp);
+            throw e;
+        }
+    }
+
+    /**
+     * 회원가입 요청 제한 확인 (IP 단위)
+     */
+    public void checkSignup(String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        check(signupPerIp, clientIp, signupPerIpRejections);
+    }
+
+    /**
+     * 더 이상 제한에 영향을 주지 않는 키를 주기적으로 제거
+     */
+    @Scheduled(fixedDelayString = "${strive.rate-limit.eviction-interval:PT1M}")
+    public void evictStaleKeys() {
+        int evicted = loginPerIp.evictStale() + loginPerEmail.evictStale() + signupPerIp.evictStale();
+        if (evicted > 0) {
+            log.debug("요청 제한 키 정리: evicted={}", evicted);
+        }
+    }
+
+    private void check(SlidingWindowRateLimiter limiter, String key, Counter rejections) {
+        Duration retryAfter = limiter.tryAcquire(key);
+        if (!retryAfter.isZero()) {
+            rejections.increment();
+            throw new RetryableBusinessException(ErrorCode.RATE_LIMIT_EXCEEDED, retryAfter);
+        }
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static SlidingWindowRateLimiter create(RateLimitProperties properties, RateLimitProperties.Limit limit) {
+        return new SlidingWindowRateLimiter(limit.limit(), limit.window(),
+                properties.maxKeys(), properties.overflowStripes(), Clock.systemUTC());
+    }
+
+    private static Counter rejectionCounter(MeterRegistry registry, String limit) {
+        return Counter.builder(METRIC_REJECTIONS)
+                .description("요청 제한으로 거절된 인증 요청 수")
+                .tag("limit", limit)
+                .register(registry);
+    }
+
+    private static void keyGauge(MeterRegistry registry, String limit, SlidingWindowRateLimiter limiter) {
+        Gauge.builder(METRIC_KEYS, limiter, SlidingWindowRateLimiter::getTrackedKeyCount)
+                .description("요청 제한기가 추적 중인 키 수")
+                .tag("limit", limit)
+                .register(registry);
+    }
+}
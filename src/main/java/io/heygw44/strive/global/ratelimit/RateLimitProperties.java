@@ -0,0 +1,39 @@
+package io.heygw44.strive.global.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 인증 API 요청 제한 설정
+ * @param enabled         요청 제한 사용 여부
+ * @param maxKeys         제한기별 추적 키(IP/이메일) 상한 (초과분은 공유 버킷으로 합산)
+ * @param overflowStripes 상한 초과 시 사용할 공유 버킷 수
+ * @param loginPerIp      IP별 로그인 제한
+ * @param loginPerEmail   이메일별 로그인 제한
+ * @param signupPerIp     IP별 회원가입 제한
+ */
+@ConfigurationProperties(prefix = "strive.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxKeys,
+        @DefaultValue("256") int overflowStripes,
+        Limit loginPerIp,
+        Limit loginPerEmail,
+        Limit signupPerIp
+) {
+
+    public RateLimitProperties {
+        loginPerIp = loginPerIp != null ? loginPerIp : new Limit(30, Duration.ofMinutes(1));
+        loginPerEmail = loginPerEmail != null ? loginPerEmail : new Limit(10, Duration.ofMinutes(5));
+        signupPerIp = signupPerIp != null ? signupPerIp : new Limit(5, Duration.ofMinutes(10));
+    }
+
+    /**
+     * @param limit  윈도우당 허용 요청 수
+     * @param window 윈도우 길이
+     */
+    public record Limit(int limit, Duration window) {
+    }
+}
@@ -0,0 +1,180 @@
+package io.heygw44.strive.global.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키 단위 슬라이딩 윈도우 요청 제한기 (lock-free)
+ * 직전 윈도우 카운트를 경과 비율만큼 가중해 현재 윈도우 카운트와 합산하는 근사 방식이며,
+ * 키별 상태(윈도우 번호 32비트 + 직전/현재 카운트 16비트씩)를 AtomicLong 하나에 담아 CAS로 갱신한다.
+ * 추적 키 수가 상한에 도달하면 새 키는 해시 기반 공유 버킷(stripe)으로 합산되어 메모리가 무한히 늘지 않는다.
+ * 오래된 키 제거는 맵 항목 잠금 안에서 상태를 EVICTED로 CAS한 뒤 제거하므로, 제거 직전에 같은 상태를 읽은
+ * tryAcquire는 CAS에 실패하고 맵에서 새 상태를 다시 얻는다(떨어져 나간 인스턴스에 카운트가 유실되지 않음).
+ */
+public class SlidingWindowRateLimiter {
+
+    private static final long WINDOW_INDEX_MASK = 0xFFFF_FFFFL;
+    private static final int MAX_COUNT = 0xFFFF;
+    private static final String OVERFLOW_KEY_PREFIX = "overflow:";
+    // 카운트는 limit(< MAX_COUNT)을 넘지 않으므로 정상 상태와 겹치지 않는 제거 표시
+    private static final long EVICTED = -1L;
+
+    private final int limit;
+    private final long windowMillis;
+    private final int maxKeys;
+    private final int overflowStripes;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, AtomicLong> windows = new ConcurrentHashMap<>();
+
+    public SlidingWindowRateLimiter(int limit, Duration window, int maxKeys, int overflowStripes, Clock clock) {
+        if (limit <= 0 || limit >= MAX_COUNT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + (MAX_COUNT - 1));
+        }
+        if (window.toMillis() <= 0) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        if (maxKeys <= 0 || overflowStripes <= 0) {
+            throw new IllegalArgumentException("maxKeys and overflowStripes must be positive");
+        }
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.maxKeys = maxKeys;
+        this.overflowStripes = overflowStripes;
+        this.clock = clock;
+    }
+
+    /**
+     * 요청 1건 허용 여부 판단 (허용 시 카운트 증가, 거절 시 카운트 변화 없음)
+     * @return 허용이면 Duration.ZERO, 거절이면 다시 시도할 수 있을 때까지의 예상 대기 시간
+     */
+    public Duration tryAcquire(String key) {
+        long now = clock.millis();
+        long windowIndex = (now / windowMillis) & WINDOW_INDEX_MASK;
+        long elapsed = now % windowMillis;
+        AtomicLong window = windowFor(key);
+
+        while (true) {
+            long state = window.get();
+            if (state == EVICTED) {
+                // evictStale이 제거한 상태: 맵에서 새 상태를 다시 얻는다
+                Thread.onSpinWait();
+                window = windowFor(key);
+                continue;
+            }
+            long stateIndex = state >>> 32;
+            int previous;
+            int current;
+            if (stateIndex == windowIndex) {
+                previous = (int) (state >>> 16) & MAX_COUNT;
+                current = (int) state & MAX_COUNT;
+            } else if (stateIndex == ((windowIndex - 1) & WINDOW_INDEX_MASK)) {
+                previous = (int) state & MAX_COUNT;
+                current = 0;
+            } else {
+                previous = 0;
+                current = 0;
+            }
+
+            double previousWeight = (double) (windowMillis - elapsed) / windowMillis;
+            if (previous * previousWeight + current + 1 > limit) {
+                return Duration.ofMillis(retryAfterMillis(previous, current, elapsed));
+            }
+
+            long next = (windowIndex << 32) | ((long) previous << 16) | Math.min(current + 1, MAX_COUNT);
+            if (window.compareAndSet(state, next)) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire로 받은 허용 1건을 되돌림 (뒤이은 다른 제한에 거절되어 요청이 처리되지 않은 경우)
+     * 현재 윈도우 카운트만 감소시키며, 그 사이 윈도우가 바뀌었으면 직전 윈도우 몫은 감쇠되도록 그대로 둔다.
+     */
+    public void release(String key) {
+        AtomicLong window = windows.get(key);
+        if (window == null) {
+            window = windows.get(OVERFLOW_KEY_PREFIX + Math.floorMod(key.hashCode(), overflowStripes));
+            if (window == null) {
+                return;
+            }
+        }
+        long windowIndex = (clock.millis() / windowMillis) & WINDOW_INDEX_MASK;
+        while (true) {
+            long state = window.get();
+            if (state == EVICTED || (state >>> 32) != windowIndex || (state & MAX_COUNT) == 0) {
+                return;
+            }
+            if (window.compareAndSet(state, state - 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 직전/현재 윈도우 모두 지나 더 이상 제한에 영향을 주지 않는 키 제거
+     * 항목 잠금 안에서 오래됨을 다시 확인하고, 그 사이 tryAcquire가 상태를 갱신했으면 남겨 둔다.
+     * 시각을 읽은 직후 윈도우가 넘어가 tryAcquire가 다음 윈도우 상태를 기록한 경우도 제거하지 않는다.
+     * @return 제거된 키 수
+     */
+    public int evictStale() {
+        long windowIndex = (clock.millis() / windowMillis) & WINDOW_INDEX_MASK;
+        int evicted = 0;
+        for (String key : windows.keySet()) {
+            AtomicLong remaining = windows.computeIfPresent(key,
+                    (k, window) -> markEvictedIfStale(window, windowIndex) ? null : window);
+            if (remaining == null) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int getTrackedKeyCount() {
+        return windows.size();
+    }
+
+    private AtomicLong windowFor(String key) {
+        AtomicLong window = windows.get(key);
+        if (window != null) {
+            return window;
+        }
+        if (windows.size() >= maxKeys) {
+            // 상한 도달 시 새 키는 공유 버킷으로 합산 (가용성보다 CPU 보호를 우선)
+            key = OVERFLOW_KEY_PREFIX + Math.floorMod(key.hashCode(), overflowStripes);
+        }
+        return windows.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    private static boolean markEvictedIfStale(AtomicLong window, long windowIndex) {
+        long state = window.get();
+        if (state == EVICTED) {
+            return true;
+        }
+        // 두 윈도우 이상 지난 상태만 제거 (순환 차이가 범위 절반 이상이면 기준 시각보다 앞선 상태)
+        long age = (windowIndex - (state >>> 32)) & WINDOW_INDEX_MASK;
+        if (age < 2 || age >= (1L << 31)) {
+            return false;
+        }
+        // 동시에 tryAcquire가 CAS에 성공했다면 실패하므로 갱신된 키는 제거되지 않는다
+        return window.compareAndSet(state, EVICTED);
+    }
+
+    /**
+     * 가중 합계가 limit - 1 이하로 내려갈 때까지의 대기 시간 계산
+     */
+    private long retryAfterMillis(int previous, int current, long elapsed) {
+        double allowed = limit - 1.0;
+        if (current > allowed) {
+            // 현재 윈도우가 이미 가득 참: 다음 윈도우에서 현재 카운트가 충분히 감쇠될 때까지
+            double fraction = 1 - allowed / current;
+            return (windowMillis - elapsed) + (long) Math.ceil(windowMillis * fraction);
+        }
+        double fraction = 1 - (allowed - current) / previous;
+        return Math.max(1, (long) Math.ceil(windowMillis * fraction) - elapsed);
+    }
+}
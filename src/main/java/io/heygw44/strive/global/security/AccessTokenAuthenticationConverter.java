@@ -0,0 +1,23 @@
+package io.heygw44.strive.global.security;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * 검증된 액세스 토큰을 세션 로그인과 같은 주체({@link CustomUserDetails})로 변환
+ * 컨트롤러의 @AuthenticationPrincipal CustomUserDetails가 인증 방식과 무관하게 동작한다.
+ */
+public class AccessTokenAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        CustomUserDetails principal = CustomUserDetails.of(
+                Long.valueOf(jwt.getSubject()),
+                jwt.getClaimAsString(AccessTokenProvider.CLAIM_EMAIL),
+                Boolean.TRUE.equals(jwt.getClaim(AccessTokenProvider.CLAIM_VERIFIED))
+        );
+        return UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+    }
+}
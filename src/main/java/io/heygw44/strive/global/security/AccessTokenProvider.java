@@ -0,0 +1,51 @@
+package io.heygw44.strive.global.security;
+
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 서명된 단기 액세스 토큰 발급
+ * 검증은 각 노드에서 서명/만료만 확인하므로 세션이나 DB 조회가 필요 없다.
+ */
+public class AccessTokenProvider {
+
+    public static final String CLAIM_EMAIL = "email";
+    public static final String CLAIM_VERIFIED = "verified";
+
+    private final JwtEncoder jwtEncoder;
+    private final String issuer;
+    private final Duration accessTokenTtl;
+    private final Clock clock;
+
+    public AccessTokenProvider(JwtEncoder jwtEncoder, TokenProperties properties, Clock clock) {
+        this.jwtEncoder = jwtEncoder;
+        this.issuer = properties.issuer();
+        this.accessTokenTtl = properties.accessTokenTtl();
+        this.clock = clock;
+    }
+
+    public String issue(Long userId, String email, boolean verified) {
+        Instant now = clock.instant();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(issuer)
+                .subject(String.valueOf(userId))
+                .issuedAt(now)
+                .expiresAt(now.plus(accessTokenTtl))
+                .claim(CLAIM_EMAIL, email)
+                .claim(CLAIM_VERIFIED, verified)
+                .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+}
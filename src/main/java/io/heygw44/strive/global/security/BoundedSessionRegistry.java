@@ -0,0 +1,238 @@
+package io.heygw44.strive.global.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.session.AbstractSessionEvent;
+import org.springframework.security.core.session.SessionDestroyedEvent;
+import org.springframework.security.core.session.SessionIdChangedEvent;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크기 상한과 만료 제거를 갖춘 SessionRegistry
+ * SessionRegistryImpl은 세션 파기 이벤트를 받지 못하면 항목이 계속 누적되므로,
+ * 주기적으로 만료/유휴 세션을 제거하고 상한 초과 시 가장 오래 사용되지 않은 세션부터 제거한다.
+ * 상한 초과로 제거한 세션은 만료 표시(expireNow)를 남겨 유휴 시간 동안 조회되게 하므로,
+ * 다음 요청에서 ConcurrentSessionFilter가 해당 HTTP 세션을 무효화한다(레지스트리 밖에서 동시 세션 제한을 우회하지 않도록).
+ * 만료 표시 역시 maxEntries까지만 보관하며, 그 이상 밀려난 세션은 HTTP 세션 타임아웃까지 제한 없이 남을 수 있다.
+ * 동시 세션 제어(maximumSessions)는 기존과 동일하게 principal 단위 조회로 동작한다.
+ */
+@Slf4j
+public class BoundedSessionRegistry implements SessionRegistry, ApplicationListener<AbstractSessionEvent>, MeterBinder {
+
+    private final ConcurrentMap<String, SessionInformation> sessionIds = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, Set<String>> principals = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, SessionInformation> evictedSessions = new ConcurrentHashMap<>();
+
+    private final int maxEntries;
+    private final Duration idleTimeout;
+    private final Clock clock;
+
+    private final AtomicLong expiredEvictions = new AtomicLong();
+    private final AtomicLong capacityEvictions = new AtomicLong();
+
+    public BoundedSessionRegistry(int maxEntries, Duration idleTimeout) {
+        this(maxEntries, idleTimeout, Clock.systemUTC());
+    }
+
+    BoundedSessionRegistry(int maxEntries, Duration idleTimeout, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<Object> getAllPrincipals() {
+        return new ArrayList<>(principals.keySet());
+    }
+
+    @Override
+    public List<SessionInformation> getAllSessions(Object principal, boolean includeExpiredSessions) {
+        Set<String> sessionsUsedByPrincipal = principals.get(principal);
+        if (sessionsUsedByPrincipal == null) {
+            return List.of();
+        }
+
+        List<SessionInformation> list = new ArrayList<>(sessionsUsedByPrincipal.size());
+        for (String sessionId : sessionsUsedByPrincipal) {
+            SessionInformation sessionInformation = getSessionInformation(sessionId);
+            if (sessionInformation == null) {
+                continue;
+            }
+            if (includeExpiredSessions || !sessionInformation.isExpired()) {
+                list.add(sessionInformation);
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public SessionInformation getSessionInformation(String sessionId) {
+        SessionInformation info = sessionIds.get(sessionId);
+        return info != null ? info : evictedSessions.get(sessionId);
+    }
+
+    @Override
+    public void refreshLastRequest(String sessionId) {
+        SessionInformation info = getSessionInformation(sessionId);
+        if (info != null) {
+            info.refreshLastRequest();
+        }
+    }
+
+    @Override
+    public void registerNewSession(String sessionId, Object principal) {
+        if (getSessionInformation(sessionId) != null) {
+            removeSessionInformation(sessionId);
+        }
+
+        ensureCapacity();
+
+        sessionIds.put(sessionId, new SessionInformation(principal, sessionId, Date.from(clock.instant())));
+        principals.compute(principal, (key, sessionsUsedByPrincipal) -> {
+            if (sessionsUsedByPrincipal == null) {
+                sessionsUsedByPrincipal = new CopyOnWriteArraySet<>();
+            }
+            sessionsUsedByPrincipal.add(sessionId);
+            return sessionsUsedByPrincipal;
+        });
+    }
+
+    @Override
+    public void removeSessionInformation(String sessionId) {
+        evictedSessions.remove(sessionId);
+        SessionInformation info = sessionIds.remove(sessionId);
+        if (info == null) {
+            return;
+        }
+
+        principals.computeIfPresent(info.getPrincipal(), (key, sessionsUsedByPrincipal) -> {
+            sessionsUsedByPrincipal.remove(sessionId);
+            return sessionsUsedByPrincipal.isEmpty() ? null : sessionsUsedByPrincipal;
+        });
+    }
+
+    @Override
+    public void onApplicationEvent(AbstractSessionEvent event) {
+        if (event instanceof SessionDestroyedEvent sessionDestroyedEvent) {
+            removeSessionInformation(sessionDestroyedEvent.getId());
+        } else if (event instanceof SessionIdChangedEvent sessionIdChangedEvent) {
+            SessionInformation info = getSessionInformation(sessionIdChangedEvent.getOldSessionId());
+            if (info != null) {
+                removeSessionInformation(info.getSessionId());
+                registerNewSession(sessionIdChangedEvent.getNewSessionId(), info.getPrincipal());
+                if (info.isExpired()) {
+                    // 세션 ID가 바뀌어도 만료 표시는 유지
+                    getSessionInformation(sessionIdChangedEvent.getNewSessionId()).expireNow();
+                }
+            }
+        }
+    }
+
+    /**
+     * 만료 처리되었거나 유휴 시간을 넘긴 세션 제거
+     * 세션 파기 이벤트가 유실되어도 레지스트리가 무한히 커지지 않도록 주기적으로 실행
+     * @return 제거된 세션 수
+     */
+    @Scheduled(fixedDelayString = "${strive.session.registry.eviction-interval:PT1M}")
+    public int evictExpiredSessions() {
+        Date idleCutoff = Date.from(clock.instant().minus(idleTimeout));
+        int evicted = 0;
+        for (SessionInformation info : sessionIds.values()) {
+            if (info.isExpired() || info.getLastRequest().before(idleCutoff)) {
+                removeSessionInformation(info.getSessionId());
+                evicted++;
+            }
+        }
+        evictedSessions.values().removeIf(info -> info.getLastRequest().before(idleCutoff));
+        if (evicted > 0) {
+            expiredEvictions.addAndGet(evicted);
+            log.debug("만료 세션 제거: evicted={}, remaining={}", evicted, sessionIds.size());
+        }
+        return evicted;
+    }
+
+    public int getSessionCount() {
+        return sessionIds.size();
+    }
+
+    public int getPrincipalCount() {
+        return principals.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("strive.session.registry.sessions", this, BoundedSessionRegistry::getSessionCount)
+                .description("세션 레지스트리에 등록된 활성 세션 수")
+                .register(registry);
+        Gauge.builder("strive.session.registry.principals", this, BoundedSessionRegistry::getPrincipalCount)
+                .description("활성 세션을 가진 사용자 수")
+                .register(registry);
+        FunctionCounter.builder("strive.session.registry.evictions", expiredEvictions, AtomicLong::get)
+                .tag("reason", "expired")
+                .register(registry);
+        FunctionCounter.builder("strive.session.registry.evictions", capacityEvictions, AtomicLong::get)
+                .tag("reason", "capacity")
+                .register(registry);
+    }
+
+    private void ensureCapacity() {
+        if (sessionIds.size() < maxEntries) {
+            return;
+        }
+
+        evictExpiredSessions();
+        if (sessionIds.size() < maxEntries) {
+            return;
+        }
+
+        // 상한 초과 시 매 등록마다 전체를 정렬하지 않도록 1% 단위로 묶어서 제거
+        int batchSize = Math.max(1, maxEntries / 100);
+        List<SessionInformation> leastRecentlyUsed = sessionIds.values().stream()
+                .sorted(Comparator.comparing(SessionInformation::getLastRequest))
+                .limit(batchSize)
+                .toList();
+        leastRecentlyUsed.forEach(info -> {
+            removeSessionInformation(info.getSessionId());
+            info.expireNow();
+            evictedSessions.put(info.getSessionId(), info);
+        });
+        capacityEvictions.addAndGet(leastRecentlyUsed.size());
+        trimEvictedSessions(batchSize);
+        log.warn("세션 레지스트리 상한 도달: maxEntries={}, evicted={}", maxEntries, leastRecentlyUsed.size());
+    }
+
+    /**
+     * 만료 표시 보관 상한 유지 - 넘치면 가장 오래 사용되지 않은 표시부터 버린다.
+     */
+    private void trimEvictedSessions(int batchSize) {
+        if (evictedSessions.size() <= maxEntries) {
+            return;
+        }
+        evictedSessions.values().stream()
+                .sorted(Comparator.comparing(SessionInformation::getLastRequest))
+                .limit(Math.max(batchSize, evictedSessions.size() - maxEntries))
+                .toList()
+                .forEach(info -> evictedSessions.remove(info.getSessionId()));
+    }
+}
@@ -1,38 +1,81 @@
 package io.heygw44.strive.global.security;
 
 import io.heygw44.strive.domain.user.entity.User;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.Collection;
+import java.io.Serial;
 import java.util.List;
 
+/**
+ * 세션에 저장되는 경량 인증 주체
+ * User 엔티티 대신 식별자/이메일/인증 여부/권한만 보관하여 세션 직렬화 비용을 줄인다.
+ * 엔티티가 필요하면 서비스에서 userId로 조회한다.
+ */
 @Getter
-@RequiredArgsConstructor
-public class CustomUserDetails implements UserDetails {
+@EqualsAndHashCode(of = "userId")
+public class CustomUserDetails implements UserDetails, CredentialsContainer {
 
-    private final User user;
+    @Serial
+    private static final long serialVersionUID = 1L;
 
-    public Long getUserId() {
-        return user.getId();
+    private static final List<GrantedAuthority> DEFAULT_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final Long userId;
+    private final String email;
+    private final boolean verified;
+    private final List<GrantedAuthority> authorities;
+
+    // 인증 과정에서만 사용하며, 인증 완료 후 eraseCredentials()로 제거되어 세션에 저장되지 않음
+    private transient String password;
+
+    private CustomUserDetails(Long userId, String email, boolean verified,
+                              List<GrantedAuthority> authorities, String password) {
+        this.userId = userId;
+        this.email = email;
+        this.verified = verified;
+        this.authorities = authorities;
+        this.password = password;
     }
 
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    /**
+     * 인증용 주체 생성 (비밀번호 해시 포함)
+     */
+    public static CustomUserDetails from(User user) {
+        return new CustomUserDetails(
+                user.getId(),
+                user.getEmail(),
+                user.isVerified(),
+                DEFAULT_AUTHORITIES,
+                user.getPasswordHash()
+        );
+    }
+
+    /**
+     * 토큰 클레임으로부터 주체 복원 (비밀번호 없음)
+     */
+    public static CustomUserDetails of(Long userId, String email, boolean verified) {
+        return new CustomUserDetails(userId, email, verified, DEFAULT_AUTHORITIES, null);
     }
 
     @Override
     public String getPassword() {
-        return user.getPasswordHash();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
     }
 
     @Override
@@ -0,0 +1,18 @@
+package io.heygw44.strive.global.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 세션 레지스트리 설정
+ * @param maxEntries  레지스트리에 보관할 최대 세션 수 (초과 시 가장 오래 사용되지 않은 세션부터 제거)
+ * @param idleTimeout 마지막 요청 이후 이 시간이 지나면 만료된 세션으로 보고 제거 (server.servlet.session.timeout과 맞춤)
+ */
+@ConfigurationProperties(prefix = "strive.session.registry")
+public record SessionRegistryProperties(
+        @DefaultValue("100000") int maxEntries,
+        @DefaultValue("30m") Duration idleTimeout
+) {
+}
@@ -0,0 +1,24 @@
+package io.heygw44.strive.global.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 무상태 토큰 인증 설정 (모바일 클라이언트용)
+ * @param enabled         토큰 인증 사용 여부
+ * @param secret          HS256 서명 키 (Base64, 32바이트 이상)
+ * @param issuer          토큰 발급자 (iss)
+ * @param accessTokenTtl  액세스 토큰 유효 시간
+ * @param refreshTokenTtl 리프레시 토큰 유효 시간
+ */
+@ConfigurationProperties(prefix = "strive.security.token")
+public record TokenProperties(
+        @DefaultValue("false") boolean enabled,
+        String secret,
+        @DefaultValue("strive") String issuer,
+        @DefaultValue("15m") Duration accessTokenTtl,
+        @DefaultValue("14d") Duration refreshTokenTtl
+) {
+}
@@ -0,0 +1,244 @@
+package io.heygw44.strive.global.session;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공유 세션 저장소 앞단의 쓰기 병합 + 로컬 캐시 데코레이터
+ *
+ * 쓰기 병합: 속성 변경이 없고 마지막 접근 시간만 바뀐 요청은 touchInterval 이내라면 DB에 쓰지 않는다.
+ * 속성 변경 자체는 FlushMode.ON_SAVE로 요청 종료 시 한 번에 반영된다.
+ *
+ * 로컬 캐시: 저장 직후의 세션을 짧은 TTL 동안 노드에 보관하고, 조회 시 캐시에서 꺼내(checkout) 반환한다.
+ * 꺼낸 세션은 저장될 때까지 캐시에 없으므로 같은 노드의 동시 요청이 하나의 세션 객체를 공유하지 않는다.
+ * 다른 노드의 변경(로그아웃, 동시 세션 만료)은 최대 TTL만큼 늦게 보일 수 있다.
+ */
+public class CoalescingSessionRepository<S extends Session>
+        implements FindByIndexNameSessionRepository<CoalescingSessionRepository.CoalescingSession<S>>, MeterBinder {
+
+    private final FindByIndexNameSessionRepository<S> delegate;
+    private final Duration touchInterval;
+    private final Duration nearCacheTtl;
+    private final int nearCacheMaxEntries;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, CacheEntry<S>> nearCache = new ConcurrentHashMap<>();
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong coalescedWrites = new AtomicLong();
+
+    public CoalescingSessionRepository(FindByIndexNameSessionRepository<S> delegate,
+                                       JdbcSessionStoreProperties properties) {
+        this(delegate, properties, Clock.systemUTC());
+    }
+
+    CoalescingSessionRepository(FindByIndexNameSessionRepository<S> delegate,
+                                JdbcSessionStoreProperties properties, Clock clock) {
+        this.delegate = delegate;
+        this.touchInterval = properties.touchInterval();
+        this.nearCacheTtl = properties.nearCacheTtl();
+        this.nearCacheMaxEntries = properties.nearCacheMaxEntries();
+        this.clock = clock;
+    }
+
+    @Override
+    public CoalescingSession<S> createSession() {
+        return new CoalescingSession<>(delegate.createSession(), null);
+    }
+
+    @Override
+    public void save(CoalescingSession<S> session) {
+        if (session.requiresWrite(touchInterval)) {
+            delegate.save(session.getDelegate());
+            session.markPersisted();
+            writes.incrementAndGet();
+        } else {
+            coalescedWrites.incrementAndGet();
+        }
+        cache(session);
+    }
+
+    @Override
+    public CoalescingSession<S> findById(String id) {
+        CacheEntry<S> entry = nearCache.remove(id);
+        if (entry != null && !entry.isStale(clock.instant(), nearCacheTtl) && !entry.session().isExpired()) {
+            cacheHits.incrementAndGet();
+            return entry.session();
+        }
+
+        cacheMisses.incrementAndGet();
+        S loaded = delegate.findById(id);
+        return loaded == null ? null : new CoalescingSession<>(loaded, loaded.getLastAccessedTime());
+    }
+
+    @Override
+    public void deleteById(String id) {
+        nearCache.remove(id);
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public Map<String, CoalescingSession<S>> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        // 동시 세션 제어는 클러스터 전체 상태가 필요하므로 항상 저장소에서 조회
+        Map<String, S> sessions = delegate.findByIndexNameAndIndexValue(indexName, indexValue);
+        Map<String, CoalescingSession<S>> result = new LinkedHashMap<>(sessions.size());
+        sessions.forEach((id, session) -> {
+            nearCache.remove(id);
+            result.put(id, new CoalescingSession<>(session, session.getLastAccessedTime()));
+        });
+        return result;
+    }
+
+    /**
+     * TTL이 지난 캐시 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${strive.session.jdbc.near-cache-ttl:PT5S}")
+    public void purgeStaleEntries() {
+        Instant now = clock.instant();
+        nearCache.values().removeIf(entry -> entry.isStale(now, nearCacheTtl));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("strive.session.near-cache.size", nearCache, Map::size)
+                .register(registry);
+        FunctionCounter.builder("strive.session.near-cache.requests", cacheHits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("strive.session.near-cache.requests", cacheMisses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("strive.session.store.saves", writes, AtomicLong::get)
+                .tag("result", "written")
+                .register(registry);
+        FunctionCounter.builder("strive.session.store.saves", coalescedWrites, AtomicLong::get)
+                .tag("result", "coalesced")
+                .register(registry);
+    }
+
+    private void cache(CoalescingSession<S> session) {
+        if (nearCacheTtl.isZero() || nearCache.size() >= nearCacheMaxEntries) {
+            return;
+        }
+        nearCache.put(session.getId(), new CacheEntry<>(session, clock.instant()));
+    }
+
+    private record CacheEntry<S extends Session>(CoalescingSession<S> session, Instant cachedAt) {
+
+        boolean isStale(Instant now, Duration ttl) {
+            return cachedAt.plus(ttl).isBefore(now);
+        }
+    }
+
+    /**
+     * 속성 변경 여부와 마지막으로 저장된 접근 시간을 추적하는 세션 래퍼
+     */
+    public static final class CoalescingSession<S extends Session> implements Session {
+
+        private final S delegate;
+        private Instant persistedAccessTime;
+        private boolean changed;
+
+        private CoalescingSession(S delegate, Instant persistedAccessTime) {
+            this.delegate = delegate;
+            this.persistedAccessTime = persistedAccessTime;
+        }
+
+        S getDelegate() {
+            return delegate;
+        }
+
+        boolean requiresWrite(Duration touchInterval) {
+            if (persistedAccessTime == null || changed) {
+                return true;
+            }
+            return !delegate.getLastAccessedTime().isBefore(persistedAccessTime.plus(touchInterval));
+        }
+
+        void markPersisted() {
+            this.persistedAccessTime = delegate.getLastAccessedTime();
+            this.changed = false;
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            changed = true;
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            changed = true;
+            delegate.setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            changed = true;
+            delegate.removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            delegate.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            changed = true;
+            delegate.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.heygw44.strive.global.session;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * JDBC 세션 저장소 설정 (strive.session.store=jdbc 일 때 사용)
+ * @param touchInterval       속성 변경 없이 마지막 접근 시간만 바뀐 경우 DB 반영 최소 간격
+ * @param nearCacheTtl        노드 로컬 캐시에 세션을 보관하는 시간 (0이면 캐시 비활성화)
+ * @param nearCacheMaxEntries 노드 로컬 캐시 최대 세션 수
+ */
+@ConfigurationProperties(prefix = "strive.session.jdbc")
+public record JdbcSessionStoreProperties(
+        @DefaultValue("60s") Duration touchInterval,
+        @DefaultValue("5s") Duration nearCacheTtl,
+        @DefaultValue("10000") int nearCacheMaxEntries
+) {
+}
@@ -0,0 +1,18 @@
+package io.heygw44.strive.global.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 요청당 SQL 예산 설정
+ * @param enabled       데이터소스 프록시 및 요청별 집계 사용 여부
+ * @param maxStatements 요청당 허용 SQL 문 수 (초과 시 경고 로그)
+ * @param maxMillis     요청당 허용 DB 시간 (초과 시 경고 로그)
+ */
+@ConfigurationProperties(prefix = "strive.sql.budget")
+public record SqlBudgetProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10") int maxStatements,
+        @DefaultValue("500") long maxMillis
+) {
+}
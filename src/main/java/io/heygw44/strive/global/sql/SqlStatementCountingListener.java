@@ -0,0 +1,23 @@
+package io.heygw44.strive.global.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy 리스너 - 실행된 JDBC 문장을 현재 측정 구간에 기록
+ * 배치 실행은 DB 왕복 1회로 집계한다.
+ */
+public class SqlStatementCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementTracker.record(execInfo.getElapsedTime());
+    }
+}
@@ -0,0 +1,41 @@
+package io.heygw44.strive.global.sql;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 요청(또는 측정 구간)에서 실행된 SQL 문 수와 DB 시간
+ * 측정 구간이 중첩되면 바깥 구간에도 함께 누적된다.
+ */
+public final class SqlStatementStats {
+
+    public static final String REQUEST_ATTRIBUTE = SqlStatementStats.class.getName();
+
+    private final SqlStatementStats parent;
+    private final AtomicInteger statementCount = new AtomicInteger();
+    private final AtomicLong elapsedMillis = new AtomicLong();
+
+    SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    void record(long elapsedMillis) {
+        statementCount.incrementAndGet();
+        this.elapsedMillis.addAndGet(elapsedMillis);
+        if (parent != null) {
+            parent.record(elapsedMillis);
+        }
+    }
+
+    SqlStatementStats getParent() {
+        return parent;
+    }
+
+    public int getStatementCount() {
+        return statementCount.get();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis.get();
+    }
+}
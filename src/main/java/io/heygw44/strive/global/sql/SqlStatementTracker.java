@@ -0,0 +1,61 @@
+package io.heygw44.strive.global.sql;
+
+import org.slf4j.MDC;
+
+/**
+ * 현재 스레드의 SQL 측정 구간 관리
+ * SqlStatementCountingListener가 실행된 문장을 현재 구간에 기록한다.
+ */
+public final class SqlStatementTracker {
+
+    public static final String MDC_STATEMENT_COUNT = "sqlCount";
+    public static final String MDC_ELAPSED_MILLIS = "sqlTimeMs";
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementTracker() {
+    }
+
+    /**
+     * 측정 구간 시작 (이미 진행 중인 구간이 있으면 그 안에 중첩)
+     */
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 측정 구간 종료 - 바깥 구간으로 복원
+     */
+    public static void stop(SqlStatementStats stats) {
+        SqlStatementStats parent = stats.getParent();
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    static void record(long elapsedMillis) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats == null) {
+            return;
+        }
+        stats.record(elapsedMillis);
+
+        // 요청 처리 중 남기는 로그에 현재까지의 SQL 수/시간이 traceId와 함께 찍히도록 갱신
+        if (MDC.get(MDC_STATEMENT_COUNT) != null) {
+            SqlStatementStats root = stats;
+            while (root.getParent() != null) {
+                root = root.getParent();
+            }
+            MDC.put(MDC_STATEMENT_COUNT, String.valueOf(root.getStatementCount()));
+            MDC.put(MDC_ELAPSED_MILLIS, String.valueOf(root.getElapsedMillis()));
+        }
+    }
+}
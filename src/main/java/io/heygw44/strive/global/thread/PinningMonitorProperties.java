@@ -0,0 +1,20 @@
+package io.heygw44.strive.global.thread;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 고정(pinning) 감지 설정
+ * @param enabled    JFR jdk.VirtualThreadPinned 이벤트 수집 여부
+ * @param threshold  기록할 최소 고정 시간 (짧은 고정은 무시)
+ * @param stackDepth 경고 로그에 남길 스택 프레임 수
+ */
+@ConfigurationProperties(prefix = "strive.virtual-threads.pinning-monitor")
+public record PinningMonitorProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("20ms") Duration threshold,
+        @DefaultValue("8") int stackDepth
+) {
+}
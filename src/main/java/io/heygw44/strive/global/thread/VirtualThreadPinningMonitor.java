@@ -0,0 +1,87 @@
+package io.heygw44.strive.global.thread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감지기
+ * JFR 이벤트 스트림으로 jdk.VirtualThreadPinned를 구독해, synchronized 블록이나 네이티브 호출 안에서
+ * 블로킹되어 캐리어 스레드를 점유한 구간을 메트릭(strive.virtualthread.pinned)과 경고 로그로 남긴다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled) 도입 전후 검증용으로 켠다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "strive.virtual-threads.pinning-monitor", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PinningMonitorProperties.class)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final PinningMonitorProperties properties;
+    private final Timer pinnedTimer;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(PinningMonitorProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pinnedTimer = Timer.builder("strive.virtualthread.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(properties.threshold()).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 고정 감지 시작 (threshold={})", properties.threshold());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        log.warn("가상 스레드 고정 {}ms thread={}\n{}", event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "?", topFrames(event.getStackTrace()));
+    }
+
+    private String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(스택 없음)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(properties.stackDepth())
+                .map(this::format)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String format(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,86 @@
+-- 기준 스키마: Flyway 도입 전 JPA 엔티티 매핑(ddl-auto)이 만들던 테이블/컬럼/인덱스
+-- (IDENTITY ID의 AUTO_INCREMENT, @Enumerated 상태 컬럼의 ENUM 포함. 유니크 제약 이름만 명시적으로 지정)
+-- 이미 운영 중인 DB는 baseline-on-migrate로 이 버전을 적용된 것으로 간주하고 V2부터 실행하므로,
+-- 이후 추가되는 테이블/컬럼은 반드시 새 버전 파일에 작성한다 (이 파일은 수정하지 않는다).
+-- MySQL(InnoDB)과 H2(MODE=MySQL) 양쪽에서 실행 가능한 문법만 사용
+
+CREATE TABLE users (
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    email                VARCHAR(255) NOT NULL,
+    password_hash        VARCHAR(255) NOT NULL,
+    nickname             VARCHAR(50)  NOT NULL,
+    bio_text             VARCHAR(500),
+    preferred_categories JSON,
+    home_region_code     VARCHAR(50),
+    experience_level     VARCHAR(20),
+    is_verified          BOOLEAN      NOT NULL,
+    created_at           DATETIME(6)  NOT NULL,
+    updated_at           DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname)
+);
+
+CREATE TABLE category (
+    id   BIGINT      NOT NULL AUTO_INCREMENT,
+    name VARCHAR(50) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_category_name UNIQUE (name)
+);
+
+CREATE TABLE region (
+    code        VARCHAR(50)  NOT NULL,
+    name        VARCHAR(100) NOT NULL,
+    parent_code VARCHAR(50),
+    PRIMARY KEY (code)
+);
+
+CREATE TABLE meetup (
+    id                    BIGINT        NOT NULL AUTO_INCREMENT,
+    organizer_id          BIGINT        NOT NULL,
+    title                 VARCHAR(100)  NOT NULL,
+    description           VARCHAR(2000),
+    category_id           BIGINT        NOT NULL,
+    region_code           VARCHAR(50)   NOT NULL,
+    location_text         VARCHAR(500)  NOT NULL,
+    start_at              DATETIME(6)   NOT NULL,
+    end_at                DATETIME(6)   NOT NULL,
+    recruit_end_at        DATETIME(6)   NOT NULL,
+    capacity              INT           NOT NULL,
+    status                ENUM('DRAFT', 'OPEN', 'CLOSED', 'COMPLETED', 'CANCELLED') NOT NULL,
+    experience_level_text VARCHAR(200),
+    deleted_at            DATETIME(6),
+    version               INT,
+    created_at            DATETIME(6)   NOT NULL,
+    updated_at            DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_meetup_list ON meetup (region_code, category_id, status, start_at);
+CREATE INDEX idx_meetup_recruit_end ON meetup (recruit_end_at);
+CREATE INDEX idx_meetup_organizer ON meetup (organizer_id);
+CREATE INDEX idx_meetup_deleted ON meetup (deleted_at);
+
+CREATE TABLE participation (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    meetup_id  BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    status     ENUM('REQUESTED', 'APPROVED', 'REJECTED', 'CANCELLED') NOT NULL,
+    version    INT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_participation_meetup_user UNIQUE (meetup_id, user_id)
+);
+
+CREATE INDEX idx_participation_meetup_status ON participation (meetup_id, status);
+
+CREATE TABLE email_verification_tokens (
+    id         VARCHAR(255) NOT NULL,
+    token_hash VARCHAR(255) NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    used       BOOLEAN      NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,22 @@
+-- 실제 조회 형태에 맞춘 인덱스 (선행 컬럼 = 동등 조건, 이어서 정렬/범위 컬럼)
+
+-- 모임 기본 목록: status = ? AND deleted_at IS NULL ORDER BY start_at
+-- (id까지 포함해 같은 start_at 안에서도 정렬 순서가 인덱스 순서와 일치)
+CREATE INDEX idx_meetup_status_start ON meetup (status, deleted_at, start_at, id);
+
+-- 주최자 모임 목록: organizer_id = ? AND deleted_at IS NULL ORDER BY created_at DESC
+CREATE INDEX idx_meetup_organizer_created ON meetup (organizer_id, created_at);
+DROP INDEX idx_meetup_organizer ON meetup;
+
+-- 모집 마감 임박(스케줄러): status = 'OPEN' AND deleted_at IS NULL AND recruit_end_at <= ?
+CREATE INDEX idx_meetup_status_recruit_end ON meetup (status, recruit_end_at);
+DROP INDEX idx_meetup_recruit_end ON meetup;
+
+-- deleted_at 단독 인덱스는 대부분 NULL이라 선택도가 낮고 위 인덱스들이 대신하므로 제거
+DROP INDEX idx_meetup_deleted ON meetup;
+
+-- 주최자용 참여 목록: meetup_id = ? ORDER BY created_at (정렬 없이 인덱스 순서로 읽음)
+CREATE INDEX idx_participation_meetup_created ON participation (meetup_id, created_at);
+
+-- 이메일 인증 토큰 재발급 시 사용자별 삭제: DELETE ... WHERE user_id = ?
+CREATE INDEX idx_email_token_user ON email_verification_tokens (user_id);
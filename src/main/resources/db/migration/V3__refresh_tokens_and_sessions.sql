@@ -0,0 +1,41 @@
+-- 기준선(V1) 이후 추가된 테이블
+-- baseline-on-migrate로 V1을 건너뛴 기존 DB에도 생성되도록 별도 버전으로 둔다.
+
+-- 리프레시 토큰 (무상태 토큰 인증, strive.security.token.enabled)
+CREATE TABLE refresh_tokens (
+    id         VARCHAR(255) NOT NULL,
+    token_hash VARCHAR(64)  NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    revoked    BOOLEAN      NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_refresh_token_user ON refresh_tokens (user_id);
+
+-- Spring Session JDBC 공유 세션 저장소 (strive.session.store=jdbc)
+-- Spring Session 기본 스키마(schema-mysql.sql)와 동일, 테이블 이름은 spring.session.jdbc.table-name 기본값 기준
+CREATE TABLE SPRING_SESSION (
+    PRIMARY_ID            CHAR(36)     NOT NULL,
+    SESSION_ID            CHAR(36)     NOT NULL,
+    CREATION_TIME         BIGINT       NOT NULL,
+    LAST_ACCESS_TIME      BIGINT       NOT NULL,
+    MAX_INACTIVE_INTERVAL INT          NOT NULL,
+    EXPIRY_TIME           BIGINT       NOT NULL,
+    PRINCIPAL_NAME        VARCHAR(100),
+    CONSTRAINT SPRING_SESSION_PK PRIMARY KEY (PRIMARY_ID)
+);
+
+CREATE UNIQUE INDEX SPRING_SESSION_IX1 ON SPRING_SESSION (SESSION_ID);
+CREATE INDEX SPRING_SESSION_IX2 ON SPRING_SESSION (EXPIRY_TIME);
+CREATE INDEX SPRING_SESSION_IX3 ON SPRING_SESSION (PRINCIPAL_NAME);
+
+CREATE TABLE SPRING_SESSION_ATTRIBUTES (
+    SESSION_PRIMARY_ID CHAR(36)     NOT NULL,
+    ATTRIBUTE_NAME     VARCHAR(200) NOT NULL,
+    ATTRIBUTE_BYTES    BLOB         NOT NULL,
+    CONSTRAINT SPRING_SESSION_ATTRIBUTES_PK PRIMARY KEY (SESSION_PRIMARY_ID, ATTRIBUTE_NAME),
+    CONSTRAINT SPRING_SESSION_ATTRIBUTES_FK FOREIGN KEY (SESSION_PRIMARY_ID)
+        REFERENCES SPRING_SESSION (PRIMARY_ID) ON DELETE CASCADE
+);
@@ -0,0 +1,99 @@
+package io.heygw44.strive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마에서 주요 조회 형태가 의도한 인덱스를 타는지 H2 EXPLAIN으로 확인
+ * (선택적 필터가 적용된 뒤의 유효 조건으로 조회 형태를 표현)
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+@DisplayName("스키마 인덱스 사용 테스트")
+class SchemaIndexUsageTest {
+
+    private static final int ROWS = 200;
+    private static final String[] MEETUP_STATUSES = {"OPEN", "CLOSED", "COMPLETED", "DRAFT"};
+    private static final String[] PARTICIPATION_STATUSES = {"REQUESTED", "APPROVED", "REJECTED", "CANCELLED"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> meetups = new ArrayList<>();
+        List<Object[]> participations = new ArrayList<>();
+        for (int i = 1; i <= ROWS; i++) {
+            meetups.add(new Object[]{i, i % 20, "모임 " + i, i % 5, "R" + (i % 10), "장소",
+                    now, now, now, 10, MEETUP_STATUSES[i % MEETUP_STATUSES.length], now});
+            participations.add(new Object[]{i, i % 20, i, PARTICIPATION_STATUSES[i % PARTICIPATION_STATUSES.length], now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO meetup (id, organizer_id, title, category_id, region_code, location_text,
+                                    start_at, end_at, recruit_end_at, capacity, status, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, meetups);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO participation (id, meetup_id, user_id, status, created_at)
+                VALUES (?, ?, ?, ?, ?)
+                """, participations);
+    }
+
+    @Test
+    @DisplayName("모임 기본 목록은 상태+정렬 인덱스 사용")
+    void meetupDefaultList_usesStatusStartIndex() {
+        assertThat(explain("""
+                SELECT m.id FROM meetup m
+                WHERE m.deleted_at IS NULL AND m.status = 'OPEN'
+                ORDER BY m.start_at LIMIT 20
+                """)).containsIgnoringCase("idx_meetup_status_start");
+    }
+
+    @Test
+    @DisplayName("주최자 모임 목록은 주최자+생성일 인덱스 사용")
+    void organizerMeetupList_usesOrganizerCreatedIndex() {
+        assertThat(explain("""
+                SELECT m.id FROM meetup m
+                WHERE m.deleted_at IS NULL AND m.organizer_id = 3
+                ORDER BY m.created_at DESC LIMIT 20
+                """)).containsIgnoringCase("idx_meetup_organizer_created");
+    }
+
+    @Test
+    @DisplayName("모임별 참여 목록은 모임+생성일 인덱스 사용")
+    void participationList_usesMeetupCreatedIndex() {
+        assertThat(explain("""
+                SELECT p.id FROM participation p
+                WHERE p.meetup_id = 3
+                ORDER BY p.created_at
+                """)).containsIgnoringCase("idx_participation_meetup_created");
+    }
+
+    @Test
+    @DisplayName("승인 인원 집계는 모임+상태 인덱스 사용")
+    void approvedCount_usesMeetupStatusIndex() {
+        assertThat(explain("""
+                SELECT COUNT(p.id) FROM participation p
+                WHERE p.meetup_id = 3 AND p.status = 'APPROVED'
+                """)).containsIgnoringCase("idx_participation_meetup_status");
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -1,6 +1,7 @@
 package io.heygw44.strive.domain.meetup.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.heygw44.strive.domain.meetup.dto.CreateMeetupRequest;
 import io.heygw44.strive.domain.meetup.dto.UpdateMeetupRequest;
 import io.heygw44.strive.domain.meetup.entity.Category;
@@ -10,9 +11,12 @@ import io.heygw44.strive.domain.meetup.entity.Region;
 import io.heygw44.strive.domain.meetup.repository.CategoryRepository;
 import io.heygw44.strive.domain.meetup.repository.MeetupRepository;
 import io.heygw44.strive.domain.meetup.repository.RegionRepository;
+import io.heygw44.strive.domain.participation.entity.Participation;
 import io.heygw44.strive.domain.user.dto.LoginRequest;
 import io.heygw44.strive.domain.user.entity.User;
 import io.heygw44.strive.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,6 +24,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -30,6 +36,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
+import static io.heygw44.strive.global.sql.SqlStatementAssertions.assertStatementCount;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -64,6 +71,9 @@ class MeetupIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User organizer;
     private User otherUser;
     private Category category;
@@ -134,12 +144,29 @@ class MeetupIntegrationTest {
                             .content(objectMapper.writeValueAsString(request)))
                     .andExpect(status().isCreated())
                     .andExpect(jsonPath("$.data.title").value("테스트 러닝 모임"))
-                    .andExpect(jsonPath("$.data.organizerId").value(organizer.getId()))
+                    // TSID는 2^53을 넘으므로 JS 클라이언트 정밀도 손실을 막기 위해 문자열로 직렬화
+                    .andExpect(jsonPath("$.data.id").isString())
+                    .andExpect(jsonPath("$.data.organizerId").value(String.valueOf(organizer.getId())))
                     .andExpect(jsonPath("$.data.status").value("DRAFT"))
                     .andExpect(jsonPath("$.data.categoryName").value("러닝"))
                     .andExpect(jsonPath("$.data.regionName").value("강남구"));
         }
 
+        @Test
+        @DisplayName("응답에서 받은 문자열 ID를 그대로 요청에 사용할 수 있음")
+        void createMeetup_withStringCategoryId_returns201() throws Exception {
+            ObjectNode body = objectMapper.valueToTree(createValidRequest());
+            body.put("categoryId", String.valueOf(category.getId()));
+
+            mockMvc.perform(post("/api/meetups")
+                            .session(organizerSession)
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(body)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data.categoryId").value(String.valueOf(category.getId())));
+        }
+
         @Test
         @DisplayName("세션 없이 모임 생성 시 401")
         void createMeetup_withoutSession_returns401() throws Exception {
@@ -264,6 +291,96 @@ class MeetupIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("공개 조회 경량 체인")
+    class PublicReadFastPathTest {
+
+        @Test
+        @DisplayName("목록 조회는 세션과 CSRF 쿠키를 만들지 않음")
+        void getMeetups_doesNotCreateSessionOrCsrfCookie() throws Exception {
+            MvcResult result = mockMvc.perform(get("/api/meetups"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            assertThat(result.getRequest().getSession(false)).isNull();
+            assertThat(result.getResponse().getCookie("XSRF-TOKEN")).isNull();
+        }
+
+        @Test
+        @DisplayName("참여 목록 조회는 경량 체인에 포함되지 않아 인증 필요")
+        void getParticipations_withoutSession_returns401() throws Exception {
+            mockMvc.perform(get("/api/meetups/1/participations"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("엔드포인트별 SQL 문 수")
+    class SqlStatementBudgetTest {
+
+        @Test
+        @DisplayName("모임 상세 조회 SQL 문 수 고정")
+        void getMeetup_statementCount() throws Exception {
+            Meetup meetup = createAndSaveMeetup("상세 모임", MeetupStatus.OPEN);
+            Participation approved = Participation.request(meetup.getId(), otherUser.getId());
+            approved.approve();
+            entityManager.persist(approved);
+            entityManager.flush();
+            entityManager.clear();
+
+            MvcResult result = mockMvc.perform(get("/api/meetups/" + meetup.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.organizerNickname").value("organizer"))
+                    .andExpect(jsonPath("$.data.categoryName").value("러닝"))
+                    .andExpect(jsonPath("$.data.regionName").value("강남구"))
+                    .andExpect(jsonPath("$.data.approvedCount").value(1))
+                    .andReturn();
+
+            // 모임 + 주최자 + 카테고리 + 지역 + 승인 인원을 단일 SQL로 조회
+            assertStatementCount(result, 1);
+        }
+
+        @Test
+        @DisplayName("모임 생성은 생성 후 상세를 재조회하지 않음")
+        void createMeetup_statementCount() throws Exception {
+            entityManager.flush();
+            entityManager.clear();
+
+            MvcResult result = mockMvc.perform(post("/api/meetups")
+                            .session(organizerSession)
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createValidRequest())))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data.organizerNickname").value("organizer"))
+                    .andExpect(jsonPath("$.data.categoryName").value("러닝"))
+                    .andExpect(jsonPath("$.data.regionName").value("강남구"))
+                    .andExpect(jsonPath("$.data.approvedCount").value(0))
+                    .andReturn();
+
+            // 카테고리 + 지역(존재 검증 겸 이름) + 주최자 닉네임(캐시 미스)
+            // INSERT는 커밋 시 flush되므로 롤백되는 테스트 트랜잭션 안에서는 집계되지 않음
+            assertStatementCount(result, 3);
+        }
+
+        @Test
+        @DisplayName("모임 목록 조회 SQL 문 수는 모임 수와 무관")
+        void getMeetups_statementCountIndependentOfSize() throws Exception {
+            for (int i = 0; i < 5; i++) {
+                createAndSaveMeetup("목록 모임 " + i, MeetupStatus.OPEN);
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            MvcResult result = mockMvc.perform(get("/api/meetups"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            // 모임 페이지 + 카테고리 배치 + 지역 배치 (첫 페이지가 가득 차지 않으면 count 생략)
+            assertStatementCount(result, 3);
+        }
+    }
+
     @Nested
     @DisplayName("AC-MEETUP-02: 소프트 삭제된 모임 조회 시 404")
     class DeletedMeetupTest {
@@ -408,6 +525,38 @@ class MeetupIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("조회 전용 쿼리 적재 방식")
+    class ReadOnlyQueryTest {
+
+        @Test
+        @DisplayName("목록 조회 결과는 쓰기 트랜잭션 안에서도 읽기 전용으로 적재")
+        void findByFilters_loadsReadOnlyEntities() {
+            createAndSaveMeetup("목록 모임", MeetupStatus.OPEN);
+            entityManager.flush();
+            entityManager.clear();
+
+            Page<Meetup> page = meetupRepository.findByFilters(
+                null, null, null, null, null, PageRequest.of(0, 10));
+
+            Session session = entityManager.unwrap(Session.class);
+            assertThat(page.getContent()).isNotEmpty()
+                .allSatisfy(meetup -> assertThat(session.isReadOnly(meetup)).isTrue());
+        }
+
+        @Test
+        @DisplayName("수정용 단건 조회는 변경 감지 대상으로 적재")
+        void findByIdAndDeletedAtIsNull_loadsManagedEntity() {
+            Meetup saved = createAndSaveMeetup("수정 모임", MeetupStatus.OPEN);
+            entityManager.flush();
+            entityManager.clear();
+
+            Meetup meetup = meetupRepository.findByIdAndDeletedAtIsNull(saved.getId()).orElseThrow();
+
+            assertThat(entityManager.unwrap(Session.class).isReadOnly(meetup)).isFalse();
+        }
+    }
+
     // === Helper Methods ===
 
     private Meetup createAndSaveMeetup(String title, MeetupStatus status) {
@@ -2,8 +2,10 @@ package io.heygw44.strive.domain.meetup.service;
 
 import io.heygw44.strive.domain.meetup.dto.CreateMeetupRequest;
 import io.heygw44.strive.domain.meetup.dto.UpdateMeetupRequest;
+import io.heygw44.strive.domain.meetup.entity.Category;
 import io.heygw44.strive.domain.meetup.entity.Meetup;
 import io.heygw44.strive.domain.meetup.entity.MeetupStatus;
+import io.heygw44.strive.domain.meetup.entity.Region;
 import io.heygw44.strive.domain.meetup.repository.CategoryRepository;
 import io.heygw44.strive.domain.meetup.repository.MeetupRepository;
 import io.heygw44.strive.domain.meetup.repository.RegionRepository;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -25,7 +28,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -84,46 +89,62 @@ class MeetupServiceTest {
         @DisplayName("유효한 요청으로 모임 생성 성공")
         void createMeetup_withValidRequest_success() {
             // given
-            given(categoryRepository.existsById(categoryId)).willReturn(true);
-            given(regionRepository.existsByCode(regionCode)).willReturn(true);
+            givenReferencesExist();
             given(meetupRepository.save(any(Meetup.class))).willAnswer(invocation -> invocation.getArgument(0));
 
             // when
-            Meetup result = meetupService.createMeetup(validRequest, organizerId);
+            meetupService.createMeetupAndGetResponse(validRequest, organizerId);
+
+            // then
+            ArgumentCaptor<Meetup> saved = ArgumentCaptor.forClass(Meetup.class);
+            verify(meetupRepository).save(saved.capture());
+            assertThat(saved.getValue().getTitle()).isEqualTo("테스트 러닝 모임");
+            assertThat(saved.getValue().getOrganizerId()).isEqualTo(organizerId);
+            assertThat(saved.getValue().getStatus()).isEqualTo(MeetupStatus.DRAFT);
+        }
+
+        @Test
+        @DisplayName("생성 응답은 검증에서 읽은 참조 이름으로 조립")
+        void createMeetupAndGetResponse_usesLookedUpNames() {
+            // given
+            givenReferencesExist();
+            given(meetupRepository.save(any(Meetup.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            meetupService.createMeetupAndGetResponse(validRequest, organizerId);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result.getTitle()).isEqualTo("테스트 러닝 모임");
-            assertThat(result.getOrganizerId()).isEqualTo(organizerId);
-            assertThat(result.getStatus()).isEqualTo(MeetupStatus.DRAFT);
             verify(meetupRepository).save(any(Meetup.class));
+            verify(meetupResponseAssembler).toCreatedMeetupResponse(any(Meetup.class), eq("러닝"), eq("강남구"));
         }
 
         @Test
-        @DisplayName("존재하지 않는 카테고리로 생성 시 실패")
-        void createMeetup_withInvalidCategory_throwsException() {
+        @DisplayName("존재하지 않는 카테고리로 생성 응답 요청 시 저장하지 않고 실패")
+        void createMeetupAndGetResponse_withInvalidCategory_throwsException() {
             // given
-            given(categoryRepository.existsById(categoryId)).willReturn(false);
+            given(categoryRepository.findById(categoryId)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> meetupService.createMeetup(validRequest, organizerId))
+            assertThatThrownBy(() -> meetupService.createMeetupAndGetResponse(validRequest, organizerId))
                 .isInstanceOf(BusinessException.class)
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.RESOURCE_NOT_FOUND);
+            verify(meetupRepository, never()).save(any(Meetup.class));
         }
 
         @Test
         @DisplayName("존재하지 않는 지역으로 생성 시 실패")
         void createMeetup_withInvalidRegion_throwsException() {
             // given
-            given(categoryRepository.existsById(categoryId)).willReturn(true);
-            given(regionRepository.existsByCode(regionCode)).willReturn(false);
+            given(categoryRepository.findById(categoryId)).willReturn(Optional.of(Category.create("러닝")));
+            given(regionRepository.findById(regionCode)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> meetupService.createMeetup(validRequest, organizerId))
+            assertThatThrownBy(() -> meetupService.createMeetupAndGetResponse(validRequest, organizerId))
                 .isInstanceOf(BusinessException.class)
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.RESOURCE_NOT_FOUND);
+            verify(meetupRepository, never()).save(any(Meetup.class));
         }
 
         @Test
@@ -144,11 +165,10 @@ class MeetupServiceTest {
                 null
             );
 
-            given(categoryRepository.existsById(categoryId)).willReturn(true);
-            given(regionRepository.existsByCode(regionCode)).willReturn(true);
+            givenReferencesExist();
 
             // when & then
-            assertThatThrownBy(() -> meetupService.createMeetup(invalidRequest, organizerId))
+            assertThatThrownBy(() -> meetupService.createMeetupAndGetResponse(invalidRequest, organizerId))
                 .isInstanceOf(BusinessException.class)
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.VALIDATION_ERROR);
@@ -172,11 +192,10 @@ class MeetupServiceTest {
                 null
             );
 
-            given(categoryRepository.existsById(categoryId)).willReturn(true);
-            given(regionRepository.existsByCode(regionCode)).willReturn(true);
+            givenReferencesExist();
 
             // when & then
-            assertThatThrownBy(() -> meetupService.createMeetup(invalidRequest, organizerId))
+            assertThatThrownBy(() -> meetupService.createMeetupAndGetResponse(invalidRequest, organizerId))
                 .isInstanceOf(BusinessException.class)
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.VALIDATION_ERROR);
@@ -363,6 +382,12 @@ class MeetupServiceTest {
     }
 
     // 테스트용 Meetup 생성 헬퍼
+    private void givenReferencesExist() {
+        given(categoryRepository.findById(categoryId)).willReturn(Optional.of(Category.create("러닝")));
+        given(regionRepository.findById(regionCode))
+            .willReturn(Optional.of(Region.createDistrict(regionCode, "강남구", "SEOUL")));
+    }
+
     private Meetup createMeetup() {
         return createMeetup(MeetupStatus.DRAFT);
     }
@@ -125,8 +125,8 @@ class ParticipationIntegrationTest {
                             .session(participantSession)
                             .with(csrf()))
                     .andExpect(status().isCreated())
-                    .andExpect(jsonPath("$.data.meetupId").value(meetup.getId()))
-                    .andExpect(jsonPath("$.data.userId").value(participant.getId()))
+                    .andExpect(jsonPath("$.data.meetupId").value(String.valueOf(meetup.getId())))
+                    .andExpect(jsonPath("$.data.userId").value(String.valueOf(participant.getId())))
                     .andExpect(jsonPath("$.data.status").value("REQUESTED"));
         }
 
@@ -177,8 +177,8 @@ class ParticipationIntegrationTest {
             mockMvc.perform(get("/api/meetups/" + meetup.getId() + "/participations/me")
                             .session(participantSession))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.data.meetupId").value(meetup.getId()))
-                    .andExpect(jsonPath("$.data.userId").value(participant.getId()))
+                    .andExpect(jsonPath("$.data.meetupId").value(String.valueOf(meetup.getId())))
+                    .andExpect(jsonPath("$.data.userId").value(String.valueOf(participant.getId())))
                     .andExpect(jsonPath("$.data.status").value("REQUESTED"));
         }
 
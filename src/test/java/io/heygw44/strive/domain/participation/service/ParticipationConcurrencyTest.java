@@ -15,6 +15,8 @@ import io.heygw44.strive.support.ConcurrencyTestHelper;
 import io.heygw44.strive.support.ConcurrencyTestHelper.ExecutionResult;
 import io.heygw44.strive.global.exception.BusinessException;
 import io.heygw44.strive.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.AfterEach;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +29,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -69,6 +74,9 @@ class ParticipationConcurrencyTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private User organizer;
     private User participant;
     private Category category;
@@ -332,6 +340,32 @@ class ParticipationConcurrencyTest {
             capacityExceededCount.get(), finalApprovedCount);
     }
 
+    @Test
+    @DisplayName("승인 시 모임 락 보유 시간을 커밋 시점까지 기록")
+    void approveParticipation_recordsLockHoldTime() {
+        Meetup testMeetup = createMeetupWithCapacity(1);
+        Participation participation = createParticipations(testMeetup, createUsers(1)).getFirst();
+        long before = lockHoldCount();
+
+        participationService.approveParticipation(testMeetup.getId(), participation.getId(), organizer.getId());
+
+        assertThat(lockHoldCount()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("승인 메서드의 @Transactional 격리 수준 선언이 READ COMMITTED (선언 검증)")
+    void approveParticipation_declaresReadCommitted() throws Exception {
+        // 동작 검증이 아닌 애노테이션 선언 검증이다.
+        // H2 기본 격리 수준은 READ COMMITTED라 MySQL REPEATABLE READ 스냅샷 문제를 재현할 수 없으므로
+        // 선언이 빠지거나 바뀌는 회귀만 막는다.
+        TransactionAttribute attribute = new AnnotationTransactionAttributeSource().getTransactionAttribute(
+            ParticipationService.class.getMethod("approveParticipation", Long.class, Long.class, Long.class),
+            ParticipationService.class);
+
+        assertThat(attribute).isNotNull();
+        assertThat(attribute.getIsolationLevel()).isEqualTo(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
     // ==========================================================================
     // 헬퍼 메서드
     // ==========================================================================
@@ -400,4 +434,14 @@ class ParticipationConcurrencyTest {
         }
         return participations;
     }
+
+    /**
+     * 커밋된 모임 락 보유 시간 기록 횟수
+     */
+    private long lockHoldCount() {
+        Timer timer = meterRegistry.find("strive.lock.hold")
+            .tags("class", "MeetupRepository", "method", "findByIdForUpdate", "outcome", "committed")
+            .timer();
+        return timer != null ? timer.count() : 0;
+    }
 }
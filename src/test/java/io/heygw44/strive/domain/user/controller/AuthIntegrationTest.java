@@ -5,6 +5,7 @@ import io.heygw44.strive.domain.user.dto.LoginRequest;
 import io.heygw44.strive.domain.user.dto.SignupRequest;
 import io.heygw44.strive.domain.user.entity.User;
 import io.heygw44.strive.domain.user.repository.UserRepository;
+import io.heygw44.strive.domain.user.service.NicknameAvailabilityIndex;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -46,6 +47,9 @@ class AuthIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private NicknameAvailabilityIndex nicknameIndex;
+
     private User testUser;
 
     @BeforeEach
@@ -82,6 +86,39 @@ class AuthIntegrationTest {
                     .andExpect(status().isConflict())
                     .andExpect(jsonPath("$.code").value("AUTH-409-EMAIL"));
         }
+
+        @Test
+        @DisplayName("인덱스에 반영되지 않은 닉네임 중복도 유니크 제약으로 409 반환")
+        void signup_withDuplicateNicknameMissedByIndex_returns409() throws Exception {
+            SignupRequest request = new SignupRequest("new@example.com", "password123", "testuser");
+
+            mockMvc.perform(post("/api/auth/signup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.code").value("AUTH-409-NICKNAME"));
+        }
+    }
+
+    @Nested
+    @DisplayName("닉네임 가용성 조회")
+    class NicknameAvailabilityTest {
+
+        @Test
+        @DisplayName("사용 중인 닉네임은 불가, 새 닉네임은 가능")
+        void checkNicknameAvailability_reflectsIndexedNicknames() throws Exception {
+            nicknameIndex.rebuild();
+
+            mockMvc.perform(get("/api/auth/nickname-availability")
+                            .param("nickname", "testuser"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.available").value(false));
+
+            mockMvc.perform(get("/api/auth/nickname-availability")
+                            .param("nickname", "brandNewNick"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.available").value(true));
+        }
     }
 
     @Nested
@@ -0,0 +1,96 @@
+package io.heygw44.strive.domain.user.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.heygw44.strive.domain.user.dto.LoginRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "strive.rate-limit.enabled=true",
+        "strive.rate-limit.login-per-email.limit=2",
+        "strive.rate-limit.login-per-email.window=1m",
+        "strive.rate-limit.login-per-ip.limit=4",
+        "strive.rate-limit.login-per-ip.window=1m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+@Transactional
+@DisplayName("인증 요청 제한 통합 테스트")
+class AuthRateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("이메일별 로그인 제한 초과 시 인증 처리 전에 429와 Retry-After 반환")
+    void login_overEmailLimit_returns429WithRetryAfter() throws Exception {
+        String body = objectMapper.writeValueAsString(new LoginRequest("victim@example.com", "wrong-password"));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.code").value("REQ-429"));
+    }
+
+    @Test
+    @DisplayName("이메일별 제한으로 거절된 요청은 IP 한도를 소진하지 않음")
+    void login_rejectedByEmailLimit_doesNotConsumeIpLimit() throws Exception {
+        String victimBody = objectMapper.writeValueAsString(new LoginRequest("target@example.com", "wrong-password"));
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                            .with(fromAddress("10.0.0.9"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(victimBody))
+                    .andExpect(status().isUnauthorized());
+        }
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                            .with(fromAddress("10.0.0.9"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(victimBody))
+                    .andExpect(status().isTooManyRequests());
+        }
+
+        // IP 한도 4 중 2건만 사용됨
+        String otherBody = objectMapper.writeValueAsString(new LoginRequest("other@example.com", "wrong-password"));
+        mockMvc.perform(post("/api/auth/login")
+                        .with(fromAddress("10.0.0.9"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(otherBody))
+                .andExpect(status().isUnauthorized());
+    }
+
+    // 다른 테스트와 IP 한도를 공유하지 않도록 별도 클라이언트 주소 사용
+    private static RequestPostProcessor fromAddress(String remoteAddr) {
+        return request -> {
+            request.setRemoteAddr(remoteAddr);
+            return request;
+        };
+    }
+}
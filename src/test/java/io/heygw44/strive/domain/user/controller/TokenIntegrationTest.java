@@ -0,0 +1,136 @@
+package io.heygw44.strive.domain.user.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.heygw44.strive.domain.user.dto.LoginRequest;
+import io.heygw44.strive.domain.user.dto.RefreshTokenRequest;
+import io.heygw44.strive.domain.user.entity.User;
+import io.heygw44.strive.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "strive.security.token.enabled=true",
+        "strive.security.token.secret=c3RyaXZlLXRlc3Qtc2lnbmluZy1rZXktMzItYnl0ZXMtbG9uZyE="
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+@Transactional
+class TokenIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.create("token@example.com", passwordEncoder.encode("password123"), "tokenuser"));
+    }
+
+    private JsonNode issueTokens() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new LoginRequest("token@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tokenType").value("Bearer"))
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("data");
+    }
+
+    private MvcResult refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andReturn();
+    }
+
+    @Nested
+    @DisplayName("액세스 토큰 인증")
+    class AccessTokenTest {
+
+        @Test
+        @DisplayName("Bearer 토큰으로 세션 없이 내 프로필 조회")
+        void getProfile_withBearerToken_returnsProfileWithoutSession() throws Exception {
+            String accessToken = issueTokens().get("accessToken").asText();
+
+            MvcResult result = mockMvc.perform(get("/api/me")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.email").value("token@example.com"))
+                    .andReturn();
+
+            assertThat(result.getRequest().getSession(false)).isNull();
+        }
+
+        @Test
+        @DisplayName("위조된 토큰은 401")
+        void getProfile_withTamperedToken_returns401() throws Exception {
+            String accessToken = issueTokens().get("accessToken").asText();
+
+            mockMvc.perform(get("/api/me")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken + "x"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("리프레시 토큰 교체")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("갱신 시 새 토큰을 발급하고 기존 토큰은 재사용 불가")
+        void refresh_rotatesToken() throws Exception {
+            String oldRefreshToken = issueTokens().get("refreshToken").asText();
+
+            MvcResult first = refresh(oldRefreshToken);
+            assertThat(first.getResponse().getStatus()).isEqualTo(200);
+            String newRefreshToken = objectMapper.readTree(first.getResponse().getContentAsString())
+                    .get("data").get("refreshToken").asText();
+            assertThat(newRefreshToken).isNotEqualTo(oldRefreshToken);
+
+            MvcResult reused = refresh(oldRefreshToken);
+            assertThat(reused.getResponse().getStatus()).isEqualTo(401);
+
+            // 재사용 감지 시 같은 사용자의 토큰이 모두 폐기됨
+            MvcResult afterReuse = refresh(newRefreshToken);
+            assertThat(afterReuse.getResponse().getStatus()).isEqualTo(401);
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 토큰은 401")
+        void refresh_withMalformedToken_returns401() throws Exception {
+            mockMvc.perform(post("/api/auth/token/refresh")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RefreshTokenRequest("not-a-token"))))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.code").value("AUTH-401-REFRESH"));
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -42,6 +43,9 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private NicknameAvailabilityIndex nicknameIndex;
+
     @InjectMocks
     private AuthService authService;
 
@@ -55,9 +59,9 @@ class AuthServiceTest {
             // 준비
             SignupRequest request = new SignupRequest("test@example.com", "password123", "nickname");
             given(userRepository.existsByEmail(anyString())).willReturn(false);
-            given(userRepository.existsByNickname(anyString())).willReturn(false);
+            given(nicknameIndex.mightBeTaken("nickname")).willReturn(false);
             given(passwordEncoder.encode(anyString())).willReturn("hashedPassword");
-            given(userRepository.save(any(User.class))).willAnswer(invocation -> {
+            given(userRepository.saveAndFlush(any(User.class))).willAnswer(invocation -> {
                 User user = invocation.getArgument(0);
                 // ID 할당을 시뮬레이션
                 return user;
@@ -71,6 +75,9 @@ class AuthServiceTest {
             assertThat(response.nickname()).isEqualTo("nickname");
             verify(passwordEncoder).encode("password123");
             verify(userRepository).save(any(User.class));
+            // 인덱스에 없는 닉네임은 DB 중복 조회 생략
+            verify(userRepository, never()).existsByNickname(anyString());
+            verify(nicknameIndex).registerAfterCommit("nickname");
         }
 
         @Test
@@ -106,6 +113,7 @@ class AuthServiceTest {
             // 준비
             SignupRequest request = new SignupRequest("test@example.com", "password123", "existingNick");
             given(userRepository.existsByEmail(anyString())).willReturn(false);
+            given(nicknameIndex.mightBeTaken("existingNick")).willReturn(true);
             given(userRepository.existsByNickname("existingNick")).willReturn(true);
 
             // 실행 및 검증
@@ -114,6 +122,25 @@ class AuthServiceTest {
                     .extracting("errorCode")
                     .isEqualTo(ErrorCode.DUPLICATE_NICKNAME);
         }
+
+        @Test
+        @DisplayName("인덱스가 놓친 중복 닉네임은 유니크 제약 위반으로 감지되어 실패")
+        void signup_withNicknameMissedByIndex_failsOnConstraint() {
+            // 준비
+            SignupRequest request = new SignupRequest("test@example.com", "password123", "racedNick");
+            given(userRepository.existsByEmail(anyString())).willReturn(false);
+            given(nicknameIndex.mightBeTaken("racedNick")).willReturn(false);
+            given(passwordEncoder.encode(anyString())).willReturn("hashedPassword");
+            given(userRepository.saveAndFlush(any(User.class)))
+                    .willThrow(new DataIntegrityViolationException("Unique index or primary key violation: NICKNAME"));
+
+            // 실행 및 검증
+            assertThatThrownBy(() -> authService.signup(request))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.DUPLICATE_NICKNAME);
+            verify(nicknameIndex).register("racedNick");
+        }
     }
 
     @Nested
@@ -0,0 +1,136 @@
+package io.heygw44.strive.domain.user.service;
+
+import io.heygw44.strive.domain.user.repository.UserNicknameView;
+import io.heygw44.strive.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("NicknameCache 테스트")
+class NicknameCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private NicknameCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        cache = new NicknameCache(userRepository, new NicknameCacheProperties(true, 100, TTL), meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 ID만 모아 한 번에 조회하고 이후에는 캐시에서 반환")
+    void getNicknames_loadsOnlyMisses() {
+        given(userRepository.findNicknamesByIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(view(1L, "alice"), view(2L, "bob")));
+        given(userRepository.findNicknamesByIdIn(List.of(3L))).willReturn(List.of(view(3L, "carol")));
+
+        assertThat(cache.getNicknames(List.of(1L, 2L))).containsEntry(1L, "alice").containsEntry(2L, "bob");
+        assertThat(cache.getNicknames(List.of(1L, 2L, 3L))).hasSize(3).containsEntry(3L, "carol");
+
+        verify(userRepository, times(2)).findNicknamesByIdIn(any());
+        assertThat(meterRegistry.get("strive.nickname.cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("strive.nickname.cache.hit.ratio").gauge().value()).isEqualTo(0.4);
+    }
+
+    @Test
+    @DisplayName("무효화 또는 TTL 경과 후에는 다시 조회")
+    void getNicknames_reloadsAfterInvalidateOrTtl() {
+        given(userRepository.findNicknamesByIdIn(List.of(1L)))
+                .willReturn(List.of(view(1L, "alice")), List.of(view(1L, "alice2")), List.of(view(1L, "alice3")));
+
+        cache.getNicknames(List.of(1L));
+        cache.invalidate(1L);
+        assertThat(cache.getNicknames(List.of(1L))).containsEntry(1L, "alice2");
+
+        clock.advance(TTL.plusSeconds(1));
+        assertThat(cache.getNicknames(Set.of(1L))).containsEntry(1L, "alice3");
+    }
+
+    @Test
+    @DisplayName("유효 항목으로 가득 차면 가장 오래 전에 적재된 항목을 밀어내고 새 항목을 캐싱")
+    void getNicknames_evictsOldestWhenFull() {
+        NicknameCache bounded = new NicknameCache(
+                userRepository, new NicknameCacheProperties(true, 2, TTL), meterRegistry, clock);
+        given(userRepository.findNicknamesByIdIn(List.of(1L))).willReturn(List.of(view(1L, "alice")));
+        given(userRepository.findNicknamesByIdIn(List.of(2L))).willReturn(List.of(view(2L, "bob")));
+        given(userRepository.findNicknamesByIdIn(List.of(3L))).willReturn(List.of(view(3L, "carol")));
+
+        bounded.getNicknames(List.of(1L));
+        clock.advance(Duration.ofSeconds(1));
+        bounded.getNicknames(List.of(2L));
+        clock.advance(Duration.ofSeconds(1));
+        bounded.getNicknames(List.of(3L));
+
+        // 3은 캐시에서, 가장 먼저 적재된 1만 다시 조회
+        assertThat(bounded.getNicknames(List.of(3L))).containsEntry(3L, "carol");
+        verify(userRepository, times(1)).findNicknamesByIdIn(List.of(3L));
+        bounded.getNicknames(List.of(1L));
+        verify(userRepository, times(2)).findNicknamesByIdIn(List.of(1L));
+    }
+
+    private UserNicknameView view(Long id, String nickname) {
+        return new UserNicknameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getNickname() {
+                return nickname;
+            }
+        };
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
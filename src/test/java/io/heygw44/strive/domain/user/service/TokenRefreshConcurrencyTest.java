@@ -0,0 +1,102 @@
+package io.heygw44.strive.domain.user.service;
+
+import io.heygw44.strive.domain.user.dto.LoginRequest;
+import io.heygw44.strive.domain.user.dto.TokenResponse;
+import io.heygw44.strive.domain.user.entity.User;
+import io.heygw44.strive.domain.user.repository.RefreshTokenRepository;
+import io.heygw44.strive.domain.user.repository.UserRepository;
+import io.heygw44.strive.global.exception.BusinessException;
+import io.heygw44.strive.global.exception.ErrorCode;
+import io.heygw44.strive.support.ConcurrencyTestHelper;
+import io.heygw44.strive.support.ConcurrencyTestHelper.ExecutionResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "strive.security.token.enabled=true",
+        "strive.security.token.secret=c3RyaXZlLXRlc3Qtc2lnbmluZy1rZXktMzItYnl0ZXMtbG9uZyE="
+})
+@ActiveProfiles("local")
+@DisplayName("리프레시 토큰 교체 동시성 테스트")
+class TokenRefreshConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRefreshConcurrencyTest.class);
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DONE_TIMEOUT = Duration.ofSeconds(30);
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.create("refresh-concurrent@example.com",
+                passwordEncoder.encode("password123"), "refresh-concurrent"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 리프레시 토큰으로 동시에 갱신하면 하나만 성공하고 나머지는 재사용으로 거부")
+    void refresh_sameTokenConcurrently_onlyOneSucceeds() {
+        TokenResponse issued = tokenService.issueTokens(
+                new LoginRequest("refresh-concurrent@example.com", "password123"));
+
+        int threadCount = 8;
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger rejectedCount = new AtomicInteger();
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            tasks.add(() -> {
+                try {
+                    tokenService.refresh(issued.refreshToken());
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.REFRESH_TOKEN_INVALID) {
+                        rejectedCount.incrementAndGet();
+                    } else {
+                        throw e;
+                    }
+                }
+            });
+        }
+
+        ExecutionResult result = ConcurrencyTestHelper.runConcurrently(
+                tasks, threadCount, START_TIMEOUT, DONE_TIMEOUT);
+        result.logErrors(log);
+
+        assertThat(result.errors()).isEmpty();
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(rejectedCount.get()).isEqualTo(threadCount - 1);
+        // 재사용이 감지되었으므로 교체 발급된 토큰까지 모두 폐기된 상태
+        assertThat(refreshTokenRepository.findAll()).allMatch(token -> token.isRevoked());
+    }
+}
@@ -0,0 +1,187 @@
+package io.heygw44.strive.global.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.heygw44.strive.domain.meetup.dto.CreateMeetupRequest;
+import io.heygw44.strive.domain.meetup.entity.Category;
+import io.heygw44.strive.domain.meetup.entity.Region;
+import io.heygw44.strive.domain.meetup.repository.CategoryRepository;
+import io.heygw44.strive.domain.meetup.repository.MeetupRepository;
+import io.heygw44.strive.domain.meetup.repository.RegionRepository;
+import io.heygw44.strive.domain.user.dto.LoginRequest;
+import io.heygw44.strive.domain.user.entity.User;
+import io.heygw44.strive.domain.user.repository.UserRepository;
+import io.heygw44.strive.global.security.CustomUserDetails;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.servlet.http.Cookie;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주 DB/복제본을 서로 다른 H2 인스턴스로 띄워 라우팅 확인
+ * 복제본에만 넣은 행이 보이는지로 어느 쪽에서 읽었는지 판별한다.
+ */
+@SpringBootTest(properties = {
+        "strive.datasource.routing.enabled=true",
+        "strive.datasource.routing.read.url=jdbc:h2:mem:strive-replica;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "strive.datasource.routing.read.username=sa",
+        "strive.datasource.routing.read-your-writes-window=1m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+@DisplayName("읽기/쓰기 데이터소스 라우팅 통합 테스트")
+class ReadWriteRoutingIntegrationTest {
+
+    private static final String REPLICA_ONLY = "replica-only-category";
+
+    @Autowired
+    @Qualifier("readDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private MeetupRepository meetupRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure().dataSource(replicaDataSource).load().migrate();
+        new JdbcTemplate(replicaDataSource).update("INSERT INTO category (id, name) VALUES (?, ?)", 1L, REPLICA_ONLY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(replicaDataSource).update("DELETE FROM category WHERE name = ?", REPLICA_ONLY);
+        SecurityContextHolder.clearContext();
+        meetupRepository.deleteAll();
+        userRepository.deleteAll();
+        categoryRepository.deleteAll();
+        regionRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 주 DB에서 조회")
+    void routesByTransactionReadOnlyFlag() {
+        assertThat(inTransaction(true, this::categoryNames)).contains(REPLICA_ONLY);
+        assertThat(inTransaction(false, this::categoryNames)).doesNotContain(REPLICA_ONLY);
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 직후 같은 사용자의 읽기는 주 DB, 다른 사용자는 복제본")
+    void readYourWritesRoutesRecentWriterToPrimary() {
+        authenticate(9001L);
+        inTransaction(false, categoryRepository::count);
+
+        assertThat(inTransaction(true, this::categoryNames)).doesNotContain(REPLICA_ONLY);
+
+        authenticate(9002L);
+        assertThat(inTransaction(true, this::categoryNames)).contains(REPLICA_ONLY);
+    }
+
+    @Test
+    @DisplayName("모임 생성 직후 공개 상세 조회(세션 주체 미적재)는 쓰기 쿠키로 주 DB에서 읽음")
+    void publicReadRightAfterWriteReadsFromPrimary() throws Exception {
+        userRepository.save(User.create("ryw@example.com", passwordEncoder.encode("password123"), "ryw-writer"));
+        Category category = categoryRepository.save(Category.create("ryw-category"));
+        Region region = regionRepository.save(Region.createDistrict("RYW_DISTRICT", "쓰기후읽기구", null));
+        MockHttpSession session = login("ryw@example.com", "password123");
+
+        LocalDateTime now = LocalDateTime.now();
+        CreateMeetupRequest request = new CreateMeetupRequest(
+                "쓰기 후 읽기 모임", "설명", category.getId(), region.getCode(), "장소",
+                now.plusDays(7), now.plusDays(7).plusHours(2), now.plusDays(6), 10, null);
+        MvcResult created = mockMvc.perform(post("/api/meetups")
+                        .session(session)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String meetupId = objectMapper.readTree(created.getResponse().getContentAsString())
+                .path("data").path("id").asText();
+        Cookie writeMarker = created.getResponse().getCookie(ReadYourWritesTracker.COOKIE_NAME);
+        assertThat(writeMarker).isNotNull();
+
+        // 복제본에는 아직 없는 모임 - 쓰기 쿠키가 있으면 주 DB에서 조회
+        mockMvc.perform(get("/api/meetups/" + meetupId).session(session).cookie(writeMarker))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("쓰기 후 읽기 모임"));
+
+        // 공개 조회 체인은 세션 주체를 읽지 않으므로 쿠키가 없으면 복제본으로 가서 찾지 못함
+        mockMvc.perform(get("/api/meetups/" + meetupId).session(session))
+                .andExpect(status().isNotFound());
+    }
+
+    private MockHttpSession login(String email, String password) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, password))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return (MockHttpSession) result.getRequest().getSession();
+    }
+
+    private List<String> categoryNames() {
+        return categoryRepository.findAll().stream().map(Category::getName).toList();
+    }
+
+    private <T> T inTransaction(boolean readOnly, Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> work.get());
+    }
+
+    private static void authenticate(Long userId) {
+        CustomUserDetails principal = CustomUserDetails.of(userId, "user" + userId + "@test.com", true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
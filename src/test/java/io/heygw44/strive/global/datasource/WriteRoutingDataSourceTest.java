@@ -0,0 +1,81 @@
+package io.heygw44.strive.global.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("WriteRoutingDataSource 단위 테스트")
+class WriteRoutingDataSourceTest {
+
+    private final DataSource writePool = mock(DataSource.class);
+    private final DataSource lockingPool = mock(DataSource.class);
+    private final Connection writeConnection = mock(Connection.class);
+    private final Connection lockingConnection = mock(Connection.class);
+
+    private WriteRoutingDataSource routing;
+    private ConnectionUser connectionUser;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        given(writePool.getConnection()).willReturn(writeConnection);
+        given(lockingPool.getConnection()).willReturn(lockingConnection);
+        routing = new WriteRoutingDataSource(writePool, lockingPool);
+
+        connectionUser = proxy(new ConnectionUser(routing));
+    }
+
+    @Test
+    @DisplayName("@LockingWrite 안에서는 락 쓰기 풀, 벗어나면 일반 쓰기 풀에서 커넥션 획득")
+    void routesByLockingWorkload() throws SQLException {
+        assertThat(connectionUser.lockingWrite()).isSameAs(lockingConnection);
+        assertThat(connectionUser.plainWrite()).isSameAs(writeConnection);
+        assertThat(routing.getConnection()).isSameAs(writeConnection);
+    }
+
+    @Test
+    @DisplayName("중첩 @LockingWrite 종료 후에도 바깥 작업은 락 쓰기 풀 유지")
+    void restoresOuterMarkerAfterNestedCall() throws SQLException {
+        assertThat(connectionUser.nestedLockingWrite()).isSameAs(lockingConnection);
+        assertThat(routing.getConnection()).isSameAs(writeConnection);
+    }
+
+    private static ConnectionUser proxy(ConnectionUser target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LockingWorkloadAspect());
+        return factory.getProxy();
+    }
+
+    static class ConnectionUser {
+
+        private final DataSource dataSource;
+
+        ConnectionUser(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @LockingWrite
+        public Connection lockingWrite() throws SQLException {
+            return dataSource.getConnection();
+        }
+
+        public Connection plainWrite() throws SQLException {
+            return dataSource.getConnection();
+        }
+
+        @LockingWrite
+        public Connection nestedLockingWrite() throws SQLException {
+            proxy(new ConnectionUser(dataSource)).lockingWrite();
+            return dataSource.getConnection();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.heygw44.strive.global.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TsidFactory 테스트")
+class TsidFactoryTest {
+
+    private static final long NOW = Instant.parse("2026-03-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("ID에 생성 시각과 노드가 기록됨")
+    void nextId_encodesTimestampAndNode() {
+        TsidFactory factory = new TsidFactory(42, () -> NOW);
+
+        long id = factory.nextId();
+
+        assertThat(id).isPositive();
+        assertThat(TsidFactory.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(NOW));
+        assertThat(TsidFactory.nodeOf(id)).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("같은 ms 안에서는 시퀀스가 증가하고, 넘치면 다음 ms로 이어짐")
+    void nextId_sequenceOverflowBorrowsNextMillisecond() {
+        TsidFactory factory = new TsidFactory(1, () -> NOW);
+        int perMillisecond = 1 << TsidFactory.SEQUENCE_BITS;
+
+        long previous = factory.nextId();
+        for (int i = 1; i < perMillisecond; i++) {
+            long id = factory.nextId();
+            assertThat(id).isEqualTo(previous + 1);
+            previous = id;
+        }
+        long overflowed = factory.nextId();
+
+        assertThat(overflowed).isGreaterThan(previous);
+        assertThat(TsidFactory.timestampOf(overflowed)).isEqualTo(Instant.ofEpochMilli(NOW + 1));
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID는 계속 증가")
+    void nextId_monotonicWhenClockGoesBackwards() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidFactory factory = new TsidFactory(1, clock::get);
+
+        long before = factory.nextId();
+        clock.set(NOW - 5_000);
+        long after = factory.nextId();
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 생성해도 중복 없음")
+    void nextId_uniqueUnderContention() throws Exception {
+        TsidFactory factory = new TsidFactory(7, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 20_000;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(factory.nextId());
+                    }
+                });
+            }
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 생성 실패")
+    void constructor_rejectsNodeOutOfRange() {
+        assertThatThrownBy(() -> new TsidFactory(TsidFactory.MAX_NODE + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
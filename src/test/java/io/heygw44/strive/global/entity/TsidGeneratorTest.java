@@ -0,0 +1,38 @@
+package io.heygw44.strive.global.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TsidGenerator 노드 ID 설정 테스트")
+class TsidGeneratorTest {
+
+    @Test
+    @DisplayName("설정된 노드 ID를 사용")
+    void resolveNode_usesConfiguredNode() {
+        assertThat(TsidGenerator.resolveNode(" 7 ", true)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("필수가 아니면 미설정 시 임의 노드(null)")
+    void resolveNode_optionalAndMissing_returnsNull() {
+        assertThat(TsidGenerator.resolveNode("", false)).isNull();
+    }
+
+    @Test
+    @DisplayName("필수인데 미설정이면 기동 실패")
+    void resolveNode_requiredAndMissing_throws() {
+        assertThatThrownBy(() -> TsidGenerator.resolveNode(null, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("STRIVE_NODE_ID");
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 노드 ID는 기동 실패")
+    void resolveNode_notNumber_throws() {
+        assertThatThrownBy(() -> TsidGenerator.resolveNode("node-a", false))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
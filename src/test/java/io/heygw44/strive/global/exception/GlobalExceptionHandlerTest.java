@@ -1,5 +1,7 @@
 package io.heygw44.strive.global.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -7,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -20,6 +23,9 @@ class GlobalExceptionHandlerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void validationError_mapsToErrorResponse() throws Exception {
         mockMvc.perform(post("/test/validation")
@@ -38,4 +44,19 @@ class GlobalExceptionHandlerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.code").value("RES-404"));
     }
+
+    @Test
+    void businessException_incrementsErrorCounterByCode() throws Exception {
+        double before = errorCount("RES-404");
+
+        mockMvc.perform(get("/test/business"))
+                .andExpect(status().isNotFound());
+
+        assertThat(errorCount("RES-404")).isEqualTo(before + 1);
+    }
+
+    private double errorCount(String code) {
+        Counter counter = meterRegistry.find("strive.errors").tag("code", code).counter();
+        return counter == null ? 0 : counter.count();
+    }
 }
@@ -0,0 +1,93 @@
+package io.heygw44.strive.global.loader;
+
+import io.heygw44.strive.domain.meetup.entity.Region;
+import io.heygw44.strive.domain.meetup.repository.CategoryRepository;
+import io.heygw44.strive.domain.meetup.repository.RegionRepository;
+import io.heygw44.strive.domain.user.service.NicknameCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReferenceNames 배치 로더 테스트")
+class ReferenceNamesTest {
+
+    @Mock
+    private NicknameCache nicknameCache;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private RegionRepository regionRepository;
+
+    @InjectMocks
+    private ReferenceNameLoader loader;
+
+    @Test
+    @DisplayName("중복 ID를 제거해 유형별로 한 번만 조회하고 요청 유형만 쿼리")
+    void load_deduplicatesAndBatchesPerType() {
+        given(nicknameCache.getNicknames(Set.of(1L, 2L))).willReturn(Map.of(1L, "alice", 2L, "bob"));
+        given(regionRepository.findAllById(Set.of("SEOUL_GANGNAM")))
+            .willReturn(List.of(Region.createDistrict("SEOUL_GANGNAM", "강남구", null)));
+
+        ReferenceNames names = loader.newBatch();
+        Supplier<String> first = names.userNickname(1L);
+        Supplier<String> second = names.userNickname(2L);
+        Supplier<String> again = names.userNickname(1L);
+        Supplier<String> region = names.regionName("SEOUL_GANGNAM");
+        names.load();
+
+        assertThat(first.get()).isEqualTo("alice");
+        assertThat(second.get()).isEqualTo("bob");
+        assertThat(again.get()).isEqualTo("alice");
+        assertThat(region.get()).isEqualTo("강남구");
+        verify(nicknameCache, times(1)).getNicknames(any());
+        verify(categoryRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("대상이 없는 ID는 null, load 전 조회는 예외")
+    void supplier_missingAndBeforeLoad() {
+        given(nicknameCache.getNicknames(Set.of(99L))).willReturn(Map.of());
+
+        ReferenceNames names = loader.newBatch();
+        Supplier<String> missing = names.userNickname(99L);
+
+        assertThatThrownBy(missing::get).isInstanceOf(IllegalStateException.class);
+
+        names.load();
+        assertThat(missing.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 해석된 ID는 다시 조회하지 않음")
+    void load_skipsResolvedKeys() {
+        given(nicknameCache.getNicknames(Set.of(1L))).willReturn(Map.of(1L, "alice"));
+
+        ReferenceNames names = loader.newBatch();
+        names.userNickname(1L);
+        names.load();
+        Supplier<String> cached = names.userNickname(1L);
+        names.load();
+
+        assertThat(cached.get()).isEqualTo("alice");
+        verify(nicknameCache, times(1)).getNicknames(any());
+    }
+}
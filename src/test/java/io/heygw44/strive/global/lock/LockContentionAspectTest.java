@@ -0,0 +1,117 @@
+package io.heygw44.strive.global.lock;
+
+import io.heygw44.strive.global.datasource.LockingWrite;
+import io.heygw44.strive.global.exception.ErrorCode;
+import io.heygw44.strive.global.exception.RetryableBusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LockContentionAspect 단위 테스트")
+class LockContentionAspectTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("락 획득 실패는 재시도 후 성공하면 정상 반환")
+    void retriesLockFailureUntilSuccess() {
+        LockedWork target = new LockedWork(2);
+        LockedWork work = proxy(target, 3);
+
+        assertThat(work.approve(1L)).isEqualTo("ok");
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.get(LockContentionAspect.RETRY_METRIC).tag("outcome", "retried").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도를 소진하면 SYS-503-LOCK과 Retry-After로 변환")
+    void translatesExhaustedLockFailure() {
+        LockedWork target = new LockedWork(Integer.MAX_VALUE);
+        LockedWork work = proxy(target, 2);
+
+        assertThatThrownBy(() -> work.approve(1L))
+                .isInstanceOfSatisfying(RetryableBusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.LOCK_CONTENDED);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(1);
+                });
+        assertThat(target.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("락 전용 풀 커넥션 획득 시간 초과는 재시도 없이 SYS-503-LOCK과 Retry-After로 변환")
+    void translatesConnectionPoolTimeout() {
+        LockedWork target = new LockedWork(0);
+        LockedWork work = proxy(target, 3);
+
+        assertThatThrownBy(() -> work.acquireConnection(1L))
+                .isInstanceOfSatisfying(RetryableBusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.LOCK_CONTENDED);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(1);
+                });
+        assertThat(target.calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get(LockContentionAspect.RETRY_METRIC).tag("outcome", "pool_exhausted").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("락 실패가 아닌 예외는 재시도하지 않고 그대로 전파")
+    void doesNotRetryOtherFailures() {
+        LockedWork target = new LockedWork(0);
+        LockedWork work = proxy(target, 3);
+
+        assertThatThrownBy(() -> work.fail(1L)).isInstanceOf(IllegalStateException.class);
+        assertThat(target.calls.get()).isEqualTo(1);
+    }
+
+    private LockedWork proxy(LockedWork target, int maxAttempts) {
+        LockContentionProperties properties = new LockContentionProperties(
+                maxAttempts, Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofSeconds(1), 100, 10);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LockContentionAspect(properties, new HotMeetupTracker(properties), meterRegistry));
+        return factory.getProxy();
+    }
+
+    static class LockedWork {
+
+        final AtomicInteger calls = new AtomicInteger();
+        private final int failures;
+
+        LockedWork(int failures) {
+            this.failures = failures;
+        }
+
+        @LockingWrite
+        public String approve(Long meetupId) {
+            if (calls.incrementAndGet() <= failures) {
+                throw new CannotAcquireLockException("lock timeout");
+            }
+            return "ok";
+        }
+
+        @LockingWrite
+        public String acquireConnection(Long meetupId) {
+            calls.incrementAndGet();
+            throw new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                    new SQLTransientConnectionException("locking - Connection is not available, request timed out after 1000ms."));
+        }
+
+        @LockingWrite
+        public String fail(Long meetupId) {
+            calls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }
+    }
+}
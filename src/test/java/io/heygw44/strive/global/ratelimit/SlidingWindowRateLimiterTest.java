@@ -0,0 +1,197 @@
+package io.heygw44.strive.global.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlidingWindowRateLimiter 테스트")
+class SlidingWindowRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        // 윈도우 경계에 맞춘 시각에서 시작
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("윈도우 내 limit 초과 시 거절하고 대기 시간을 반환")
+    void tryAcquire_rejectsOverLimit() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW, 100, 4, clock);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("ip-1")).isZero();
+        }
+
+        assertThat(limiter.tryAcquire("ip-1")).isPositive();
+        assertThat(limiter.tryAcquire("ip-2")).isZero();
+    }
+
+    @Test
+    @DisplayName("직전 윈도우 카운트는 경과 비율만큼 감쇠됨")
+    void tryAcquire_weightsPreviousWindow() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW, 100, 4, clock);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("ip-1");
+        }
+
+        // 다음 윈도우 시작 직후: 직전 카운트 3이 그대로 반영
+        clock.advance(WINDOW);
+        assertThat(limiter.tryAcquire("ip-1")).isPositive();
+
+        // 절반 경과: 3 * 0.5 + 0 + 1 <= 3
+        clock.advance(WINDOW.dividedBy(2));
+        assertThat(limiter.tryAcquire("ip-1")).isZero();
+    }
+
+    @Test
+    @DisplayName("반환된 대기 시간이 지나면 다시 허용됨")
+    void tryAcquire_allowsAfterRetryAfter() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW, 100, 4, clock);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("ip-1");
+        }
+        clock.advance(Duration.ofSeconds(10));
+
+        Duration retryAfter = limiter.tryAcquire("ip-1");
+        assertThat(retryAfter).isEqualTo(Duration.ofSeconds(70));
+
+        clock.advance(retryAfter);
+        assertThat(limiter.tryAcquire("ip-1")).isZero();
+    }
+
+    @Test
+    @DisplayName("추적 키 상한 도달 시 새 키는 공유 버킷으로 합산되어 메모리가 제한됨")
+    void tryAcquire_boundsTrackedKeys() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW, 10, 2, clock);
+
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("ip-" + i);
+        }
+
+        assertThat(limiter.getTrackedKeyCount()).isLessThanOrEqualTo(10 + 2);
+    }
+
+    @Test
+    @DisplayName("release로 되돌린 허용분은 다시 사용할 수 있음")
+    void release_returnsPermit() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, WINDOW, 100, 4, clock);
+        limiter.tryAcquire("ip-1");
+        limiter.tryAcquire("ip-1");
+
+        limiter.release("ip-1");
+
+        assertThat(limiter.tryAcquire("ip-1")).isZero();
+        assertThat(limiter.tryAcquire("ip-1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("두 윈도우가 지난 키는 정리됨")
+    void evictStale_removesExpiredKeys() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW, 100, 4, clock);
+        limiter.tryAcquire("ip-1");
+        limiter.tryAcquire("ip-2");
+
+        clock.advance(WINDOW);
+        assertThat(limiter.evictStale()).isZero();
+
+        clock.advance(WINDOW);
+        assertThat(limiter.evictStale()).isEqualTo(2);
+        assertThat(limiter.getTrackedKeyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 허용 건수가 limit을 넘지 않음")
+    void tryAcquire_isAtomicUnderContention() throws InterruptedException {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(50, WINDOW, 100, 4, clock);
+        int threads = 16;
+        int attemptsPerThread = 100;
+        AtomicInteger permitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < attemptsPerThread; i++) {
+                            if (limiter.tryAcquire("ip-1").isZero()) {
+                                permitted.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            done.await();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(permitted.get()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("정리 시각 이후 윈도우에 기록된 키는 제거하지 않음")
+    void evictStale_keepsKeysWrittenInLaterWindow() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, WINDOW, 100, 4, clock);
+        clock.advance(WINDOW);
+        assertThat(limiter.tryAcquire("ip-1")).isZero();
+
+        // 정리 작업이 윈도우 경계 직전에 시각을 읽은 경우
+        clock.advance(WINDOW.negated());
+        assertThat(limiter.evictStale()).isZero();
+
+        clock.advance(WINDOW);
+        assertThat(limiter.tryAcquire("ip-1")).isPositive();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
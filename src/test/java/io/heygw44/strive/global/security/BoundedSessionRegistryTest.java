@@ -0,0 +1,167 @@
+package io.heygw44.strive.global.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.session.SessionDestroyedEvent;
+import org.springframework.security.core.session.SessionInformation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoundedSessionRegistry 테스트")
+class BoundedSessionRegistryTest {
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.now().minus(Duration.ofDays(1)));
+    }
+
+    @Test
+    @DisplayName("동일 사용자의 세션은 principal 단위로 조회됨")
+    void getAllSessions_groupsByPrincipal() {
+        BoundedSessionRegistry registry = new BoundedSessionRegistry(10, IDLE_TIMEOUT, clock);
+
+        registry.registerNewSession("s1", "user-1");
+        registry.registerNewSession("s2", "user-1");
+        registry.registerNewSession("s3", "user-2");
+
+        assertThat(registry.getAllSessions("user-1", false))
+                .extracting(SessionInformation::getSessionId)
+                .containsExactlyInAnyOrder("s1", "s2");
+        assertThat(registry.getAllPrincipals()).containsExactlyInAnyOrder("user-1", "user-2");
+    }
+
+    @Test
+    @DisplayName("만료 표시된 세션은 기본 조회에서 제외됨")
+    void getAllSessions_excludesExpiredByDefault() {
+        BoundedSessionRegistry registry = new BoundedSessionRegistry(10, IDLE_TIMEOUT, clock);
+        registry.registerNewSession("s1", "user-1");
+
+        registry.getSessionInformation("s1").expireNow();
+
+        assertThat(registry.getAllSessions("user-1", false)).isEmpty();
+        assertThat(registry.getAllSessions("user-1", true)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("세션 파기 이벤트 수신 시 레지스트리에서 제거됨")
+    void sessionDestroyedEvent_removesSession() {
+        BoundedSessionRegistry registry = new BoundedSessionRegistry(10, IDLE_TIMEOUT, clock);
+        registry.registerNewSession("s1", "user-1");
+
+        registry.onApplicationEvent(new TestSessionDestroyedEvent("s1"));
+
+        assertThat(registry.getSessionInformation("s1")).isNull();
+        assertThat(registry.getAllPrincipals()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지난 세션과 만료 세션은 주기 정리에서 제거됨")
+    void evictExpiredSessions_removesIdleAndExpired() {
+        BoundedSessionRegistry registry = new BoundedSessionRegistry(10, IDLE_TIMEOUT, clock);
+        registry.registerNewSession("idle", "user-1");
+        registry.registerNewSession("expired", "user-2");
+        registry.getSessionInformation("expired").expireNow();
+
+        clock.advance(IDLE_TIMEOUT.plusMinutes(1));
+        registry.registerNewSession("active", "user-3");
+
+        int evicted = registry.evictExpiredSessions();
+
+        assertThat(evicted).isEqualTo(2);
+        assertThat(registry.getSessionCount()).isEqualTo(1);
+        assertThat(registry.getSessionInformation("active")).isNotNull();
+        assertThat(registry.getPrincipalCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상한 도달 시 가장 오래 사용되지 않은 세션부터 제거하고 만료 표시를 남김")
+    void registerNewSession_evictsLeastRecentlyUsedWhenFull() {
+        BoundedSessionRegistry registry = new BoundedSessionRegistry(2, IDLE_TIMEOUT, clock);
+        registry.registerNewSession("oldest", "user-1");
+        clock.advance(Duration.ofSeconds(1));
+        registry.registerNewSession("newer", "user-2");
+        clock.advance(Duration.ofSeconds(1));
+
+        registry.registerNewSession("newest", "user-3");
+
+        assertThat(registry.getSessionCount()).isEqualTo(2);
+        assertThat(registry.getAllSessions("user-1", true)).isEmpty();
+        // ConcurrentSessionFilter가 다음 요청에서 무효화하도록 만료된 정보로 조회됨
+        assertThat(registry.getSessionInformation("oldest").isExpired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("상한 초과로 남긴 만료 표시는 유휴 시간이 지나면 정리됨")
+    void evictExpiredSessions_dropsCapacityEvictionMarkersAfterIdleTimeout() {
+        BoundedSessionRegistry registry = new BoundedSessionRegistry(1, IDLE_TIMEOUT, clock);
+        registry.registerNewSession("oldest", "user-1");
+        clock.advance(Duration.ofSeconds(1));
+        registry.registerNewSession("newest", "user-2");
+
+        clock.advance(IDLE_TIMEOUT.plusMinutes(1));
+        registry.evictExpiredSessions();
+
+        assertThat(registry.getSessionInformation("oldest")).isNull();
+    }
+
+    private static final class TestSessionDestroyedEvent extends SessionDestroyedEvent {
+
+        private final String id;
+
+        private TestSessionDestroyedEvent(String id) {
+            super(id);
+            this.id = id;
+        }
+
+        @Override
+        public List<SecurityContext> getSecurityContexts() {
+            return List.of();
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.heygw44.strive.global.security;
+
+import io.heygw44.strive.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CustomUserDetails 세션 주체 테스트")
+class CustomUserDetailsTest {
+
+    private static final String PASSWORD_HASH = "$2a$12$abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ01";
+
+    @Test
+    @DisplayName("인증 후 비밀번호 해시가 제거됨")
+    void eraseCredentials_removesPasswordHash() {
+        CustomUserDetails userDetails = CustomUserDetails.from(createUser());
+        assertThat(userDetails.getPassword()).isEqualTo(PASSWORD_HASH);
+
+        userDetails.eraseCredentials();
+
+        assertThat(userDetails.getPassword()).isNull();
+        assertThat(userDetails.getUsername()).isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("SecurityContext 직렬화 시 프로필/비밀번호 정보가 포함되지 않음")
+    void serializedSecurityContext_excludesEntityState() throws Exception {
+        CustomUserDetails userDetails = CustomUserDetails.from(createUser());
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                userDetails, null, userDetails.getAuthorities());
+        authentication.eraseCredentials();
+
+        byte[] serialized = serialize(new SecurityContextImpl(authentication));
+        String content = new String(serialized, StandardCharsets.ISO_8859_1);
+
+        assertThat(content).doesNotContain(PASSWORD_HASH);
+        assertThat(content).doesNotContain("bio-text-marker");
+        assertThat(serialized.length).isLessThan(4096);
+
+        SecurityContextImpl restored = deserialize(serialized);
+        CustomUserDetails principal = (CustomUserDetails) restored.getAuthentication().getPrincipal();
+        assertThat(principal).isEqualTo(userDetails);
+        assertThat(principal.getEmail()).isEqualTo("test@example.com");
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    private User createUser() {
+        User user = User.create("test@example.com", PASSWORD_HASH, "nickname");
+        user.updateProfile(null, "bio-text-marker ".repeat(30), List.of("러닝", "등산", "자전거"), "SEOUL_GANGNAM", "BEGINNER");
+        return user;
+    }
+
+    private byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private SecurityContextImpl deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (SecurityContextImpl) in.readObject();
+        }
+    }
+}
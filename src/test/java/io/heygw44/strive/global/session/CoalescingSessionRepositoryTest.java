@@ -0,0 +1,142 @@
+package io.heygw44.strive.global.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CoalescingSessionRepository 테스트")
+class CoalescingSessionRepositoryTest {
+
+    private static final Duration TOUCH_INTERVAL = Duration.ofSeconds(60);
+
+    private CountingSessionRepository delegate;
+    private CoalescingSessionRepository<MapSession> repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingSessionRepository();
+        repository = new CoalescingSessionRepository<>(
+                delegate,
+                new JdbcSessionStoreProperties(TOUCH_INTERVAL, Duration.ofSeconds(5), 100),
+                Clock.fixed(Instant.now(), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("새 세션은 항상 저장됨")
+    void save_newSession_writes() {
+        CoalescingSessionRepository.CoalescingSession<MapSession> session = repository.createSession();
+
+        repository.save(session);
+
+        assertThat(delegate.saveCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("접근 시간만 바뀐 요청은 touchInterval 이내면 저장 생략")
+    void save_touchOnlyWithinInterval_coalesced() {
+        CoalescingSessionRepository.CoalescingSession<MapSession> session = repository.createSession();
+        repository.save(session);
+
+        session.setLastAccessedTime(session.getLastAccessedTime().plusSeconds(10));
+        repository.save(session);
+
+        assertThat(delegate.saveCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("touchInterval이 지나면 접근 시간 변경도 저장")
+    void save_touchAfterInterval_writes() {
+        CoalescingSessionRepository.CoalescingSession<MapSession> session = repository.createSession();
+        repository.save(session);
+
+        session.setLastAccessedTime(session.getLastAccessedTime().plus(TOUCH_INTERVAL));
+        repository.save(session);
+
+        assertThat(delegate.saveCount).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("속성 변경은 즉시 저장")
+    void save_attributeChange_writes() {
+        CoalescingSessionRepository.CoalescingSession<MapSession> session = repository.createSession();
+        repository.save(session);
+
+        session.setAttribute("key", "value");
+        repository.save(session);
+
+        assertThat(delegate.saveCount).isEqualTo(2);
+        assertThat(delegate.sessions.get(session.getId()).<String>getAttribute("key")).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("저장 직후 조회는 로컬 캐시에서 반환하고, 꺼낸 세션은 다시 저장될 때까지 공유되지 않음")
+    void findById_usesNearCacheWithCheckout() {
+        CoalescingSessionRepository.CoalescingSession<MapSession> session = repository.createSession();
+        repository.save(session);
+
+        CoalescingSessionRepository.CoalescingSession<MapSession> first = repository.findById(session.getId());
+        CoalescingSessionRepository.CoalescingSession<MapSession> second = repository.findById(session.getId());
+
+        assertThat(first).isSameAs(session);
+        assertThat(second).isNotSameAs(first);
+        assertThat(delegate.findCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제 시 로컬 캐시도 제거")
+    void deleteById_evictsNearCache() {
+        CoalescingSessionRepository.CoalescingSession<MapSession> session = repository.createSession();
+        repository.save(session);
+
+        repository.deleteById(session.getId());
+
+        assertThat(repository.findById(session.getId())).isNull();
+    }
+
+    private static final class CountingSessionRepository implements FindByIndexNameSessionRepository<MapSession> {
+
+        private final Map<String, MapSession> sessions = new ConcurrentHashMap<>();
+        private int saveCount;
+        private int findCount;
+
+        @Override
+        public MapSession createSession() {
+            return new MapSession();
+        }
+
+        @Override
+        public void save(MapSession session) {
+            saveCount++;
+            sessions.put(session.getId(), new MapSession(session));
+        }
+
+        @Override
+        public MapSession findById(String id) {
+            findCount++;
+            MapSession saved = sessions.get(id);
+            return saved == null ? null : new MapSession(saved);
+        }
+
+        @Override
+        public void deleteById(String id) {
+            sessions.remove(id);
+        }
+
+        @Override
+        public Map<String, MapSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+            return new HashMap<>();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.heygw44.strive.global.sql;
+
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 통합 테스트용 SQL 문 수 검증 도구
+ * 엔드포인트별 쿼리 수를 고정해 N+1 회귀를 잡는다.
+ * 테스트 트랜잭션의 1차 캐시가 쿼리를 가리지 않도록 요청 전에 EntityManager를 flush/clear 해야 한다.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    /**
+     * MockMvc 요청에서 실행된 SQL 문 수 검증 (SqlStatementBudgetFilter가 요청 속성에 남긴 값)
+     */
+    public static void assertStatementCount(MvcResult result, int expected) {
+        Object stats = result.getRequest().getAttribute(SqlStatementStats.REQUEST_ATTRIBUTE);
+        assertThat(stats)
+                .as("SqlStatementBudgetFilter가 요청 통계를 기록해야 함")
+                .isInstanceOf(SqlStatementStats.class);
+        assertThat(((SqlStatementStats) stats).getStatementCount())
+                .as("%s %s 실행 SQL 문 수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+    }
+
+    /**
+     * 임의 코드 블록에서 실행된 SQL 문 수 측정 (서비스 직접 호출 테스트용)
+     */
+    public static int countStatements(ThrowingRunnable action) throws Exception {
+        SqlStatementStats stats = SqlStatementTracker.start();
+        try {
+            action.run();
+        } finally {
+            SqlStatementTracker.stop(stats);
+        }
+        return stats.getStatementCount();
+    }
+}